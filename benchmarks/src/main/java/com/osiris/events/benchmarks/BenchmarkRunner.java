@@ -0,0 +1,32 @@
+package com.osiris.events.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks.jar. <br>
+ * Accepts the regular JMH command line arguments, but writes the results as JSON
+ * to target/jmh-result.json by default, so that they can be compared across releases. <br>
+ * Usage: <br>
+ * <pre>
+ * java -jar target/benchmarks.jar                  # runs everything
+ * java -jar target/benchmarks.jar ExecuteBenchmark # runs only matching benchmarks
+ * java -jar target/benchmarks.jar -rff other.json  # custom result file
+ * </pre>
+ */
+public class BenchmarkRunner {
+    public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (!cmdOptions.getResultFormat().hasValue())
+            builder.resultFormat(ResultFormatType.JSON);
+        if (!cmdOptions.getResult().hasValue())
+            builder.result(DEFAULT_RESULT_FILE);
+        new Runner(builder.build()).run();
+    }
+}
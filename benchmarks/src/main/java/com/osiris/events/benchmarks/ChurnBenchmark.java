@@ -0,0 +1,71 @@
+package com.osiris.events.benchmarks;
+
+import com.osiris.events.Action;
+import com.osiris.events.Event;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Event#execute(Object)} while other threads concurrently
+ * add actions via {@link Event#addAction(Action)} and remove them again via {@link Event#markActionAsRemovable(Action)}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ChurnBenchmark {
+
+    @Param({"10", "1000"})
+    public int actionCount;
+
+    public Event<Integer> event;
+    public final Queue<Action<Integer>> addedActions = new ConcurrentLinkedQueue<>();
+    private Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        event = new Event<>();
+        List<Action<Integer>> actions = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            actions.add(newAction());
+        }
+        event.actions.addAll(actions);
+    }
+
+    private Action<Integer> newAction() {
+        return new Action<>(event, (a, value) -> blackhole.consume(value),
+                Throwable::printStackTrace, false, null);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(2)
+    public Event<Integer> execute() {
+        return event.execute(1);
+    }
+
+    @Benchmark
+    @Group("churn")
+    public Action<Integer> addAction() {
+        Action<Integer> action = event.addAction(newAction());
+        addedActions.add(action);
+        return action;
+    }
+
+    @Benchmark
+    @Group("churn")
+    public Action<Integer> markActionAsRemovable() {
+        Action<Integer> action = addedActions.poll();
+        if (action != null) event.markActionAsRemovable(action);
+        return action;
+    }
+}
@@ -0,0 +1,67 @@
+package com.osiris.events.benchmarks;
+
+import com.osiris.events.Action;
+import com.osiris.events.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single run of the {@link Event#cleanerRunnable} when half of the actions must be removed. <br>
+ * cleaner: actions get detected via {@link Event#defaultActionRemoveCondition}, see {@link Event#initCleaner(int, java.util.function.Predicate, java.util.function.Consumer)}. <br>
+ * simpleCleaner: actions were marked via {@link Action#remove()}, see {@link Event#initSimpleCleaner(int)}. <br>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CleanerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int actionCount;
+
+    @Param({"cleaner", "simpleCleaner"})
+    public String cleaner;
+
+    public Event<Void> event;
+    public final List<Action<Void>> allActions = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        event = new Event<>();
+        // Large interval, so that the global cleaner thread does not interfere
+        if (cleaner.equals("cleaner"))
+            event.initCleaner(3600, obj -> obj != null, Throwable::printStackTrace);
+        else
+            event.initSimpleCleaner(3600);
+        for (int i = 0; i < actionCount; i++) {
+            allActions.add(new Action<>(event, (a, value) -> {
+            }, Throwable::printStackTrace, false, null));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        event.actions.clear();
+        event.actions.addAll(allActions);
+        for (int i = 0; i < allActions.size(); i++) {
+            Action<Void> action = allActions.get(i);
+            action.removeCondition = null;
+            action.object = null;
+            if (i % 2 == 0) {
+                if (cleaner.equals("cleaner")) action.object = Boolean.TRUE;
+                else action.remove();
+            }
+        }
+    }
+
+    @Benchmark
+    public int clean() {
+        event.cleanerRunnable.run();
+        return event.actions.size();
+    }
+}
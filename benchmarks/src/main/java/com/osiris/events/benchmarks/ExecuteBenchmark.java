@@ -0,0 +1,57 @@
+package com.osiris.events.benchmarks;
+
+import com.osiris.events.Action;
+import com.osiris.events.Event;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Event#execute(Object)} throughput and latency depending on
+ * the amount of actions and the type of remove condition that must be checked for each action.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecuteBenchmark {
+
+    @Param({"0", "1", "10", "1000", "100000"})
+    public int actionCount;
+
+    /**
+     * none: no remove condition at all. <br>
+     * action: every action has its own {@link Action#removeCondition}. <br>
+     * default: the event has a {@link Event#defaultActionRemoveCondition}. <br>
+     */
+    @Param({"none", "action", "default"})
+    public String removeCondition;
+
+    public Event<Integer> event;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        event = new Event<>();
+        List<Action<Integer>> actions = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            Action<Integer> action = new Action<>(event, (a, value) -> blackhole.consume(value),
+                    Throwable::printStackTrace, false, null);
+            if (removeCondition.equals("action"))
+                action.removeCondition = obj -> obj != null;
+            actions.add(action);
+        }
+        if (removeCondition.equals("default"))
+            event.defaultActionRemoveCondition = obj -> obj != null;
+        event.actions.addAll(actions); // Single copy instead of one per action
+    }
+
+    @Benchmark
+    public Event<Integer> execute() {
+        return event.execute(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.osiris.events.benchmarks;
+
+import com.osiris.events.Event;
+import com.osiris.events.VirtualThreads;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the dispatch modes for I/O-bound actions (simulated by a 1ms sleep),
+ * by executing the event many times concurrently and waiting for all executions to finish. <br>
+ * caller: {@link Event#execute(Object)} one after another on the calling thread. <br>
+ * platformPool: {@link Event#executeAsync(Object)} on a fixed pool of 64 platform threads. <br>
+ * virtual: {@link Event#executeAsync(Object)} after {@link Event#useVirtualThreads()}. Only meaningful when
+ * running on Java 21 or higher with a benchmarks.jar built by Java 21 or higher. <br>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadsBenchmark {
+
+    @Param({"100", "1000"})
+    public int concurrentExecutions;
+
+    @Param({"caller", "platformPool", "virtual"})
+    public String mode;
+
+    public Event<Integer> event;
+    private ExecutorService pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        event = new Event<>();
+        event.addAction(value -> Thread.sleep(1));
+        if (mode.equals("platformPool")) {
+            pool = Executors.newFixedThreadPool(64);
+            event.executor = pool;
+        } else if (mode.equals("virtual")) {
+            if (!VirtualThreads.isSupported())
+                throw new IllegalStateException("Virtual threads are not supported by this Java version or benchmarks.jar.");
+            event.useVirtualThreads();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    @Benchmark
+    public void execute() {
+        if (mode.equals("caller")) {
+            for (int i = 0; i < concurrentExecutions; i++) {
+                event.execute(i);
+            }
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[concurrentExecutions];
+        for (int i = 0; i < concurrentExecutions; i++) {
+            futures[i] = event.executeAsync(i);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
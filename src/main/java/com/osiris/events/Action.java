@@ -8,6 +8,11 @@
 
 package com.osiris.events;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -21,18 +26,38 @@ public class Action<T> {
      * Skips all actions that come after this one and prevents their execution.
      */
     public boolean isSkipNextActions = false;
+    /**
+     * Actions with a higher priority get executed first, actions with the same priority in the order they were added. <br>
+     * Must be set before the action gets added to the event, changing it afterwards does not change the order. <br>
+     * See {@link Event#addAction(int, BetterBiConsumer, Consumer)}.
+     */
+    public int priority = 0;
     public Event<T> event;
     /**
      * Holds code. Gets executed on an event.
      * Has itself as first parameter and the value T as second one.
      */
     public BetterBiConsumer<Action<T>, T> onEvent;
+    /**
+     * Can be null. <br>
+     * Holds code. If not null, gets executed instead of {@link #onEvent} by {@link Event#executeAll(Collection)},
+     * with all values of the batch at once. <br>
+     */
+    public BetterConsumer<List<T>> onBatch;
     /**
      * Holds code. Gets executed when an exception was thrown in the code held by {@link #onEvent}. <br>
      * Can be null. <br>
      */
     public Consumer<Exception> onException;
-    public long executionCount = 0;
+    /**
+     * Amount of times this action was executed. <br>
+     * A {@link LongAdder}, since the action can be executed by multiple threads at the same time. <br>
+     */
+    public final LongAdder executionCount = new LongAdder();
+    /**
+     * Null if the {@link Event#metrics} are disabled, or if this action was not executed since they were enabled. <br>
+     */
+    public volatile EventMetrics.ActionMetrics metrics;
     /**
      * Can be null. <br>
      * If not null, {@link Event#defaultActionRemoveCondition} gets ignored for this action. <br>
@@ -46,7 +71,30 @@ public class Action<T> {
      * Can be null. <br>
      */
     public Object object;
-
+    /**
+     * True once this action was marked as removable, thus it is not executed anymore and gets removed from its event soon. <br>
+     * Only read by the event if {@link Event#isPushRemoval} is enabled, instead of checking the {@link #removeCondition}. <br>
+     */
+    public volatile boolean isRemovable = false;
+    /**
+     * Can be null. <br>
+     * Limits how often this action gets executed. If no permit is available, the action is not executed for that value
+     * and {@link #onThrottled} gets executed instead. <br>
+     * See {@link #throttle(long, long, TimeUnit, int)}.
+     */
+    public Throttle throttle;
+    /**
+     * Can be null. <br>
+     * Holds code. Gets executed instead of {@link #onEvent} when the {@link #throttle} did not grant a permit.
+     * Has itself as first parameter and the dropped value T as second one.
+     */
+    public BetterBiConsumer<Action<T>, T> onThrottled;
+    /**
+     * Can be null. <br>
+     * Actions that must have finished before this action gets executed by {@link Event#executeParallel(Object)}. <br>
+     * See {@link #runAfter(Action)}.
+     */
+    public List<Action<T>> runAfter;
 
 
     /**
@@ -75,8 +123,82 @@ public class Action<T> {
         return this;
     }
 
+    /**
+     * Returns the {@link #metrics} of this action and creates them first if needed.
+     */
+    EventMetrics.ActionMetrics metrics() {
+        EventMetrics.ActionMetrics metrics = this.metrics;
+        if (metrics == null) {
+            synchronized (this) {
+                metrics = this.metrics;
+                if (metrics == null) this.metrics = metrics = new EventMetrics.ActionMetrics();
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Sets the {@link #object} and checks the {@link #removeCondition} with it directly. <br>
+     * Must be used instead of setting the field, if {@link Event#isPushRemoval} is enabled.
+     */
+    public Action<T> setObject(Object object) {
+        this.object = object;
+        return invalidate();
+    }
+
+    /**
+     * Checks the {@link #removeCondition} (or {@link Event#defaultActionRemoveCondition}) again and marks this action as removable if it's true. <br>
+     * Must be called when state used by the condition changed, if {@link Event#isPushRemoval} is enabled.
+     */
+    public Action<T> invalidate() {
+        event.markActionAsRemovableIfNeeded(this);
+        return this;
+    }
+
     public Action<T> oneTime() {
-        removeCondition = obj -> executionCount >= 1;
+        removeCondition = obj -> executionCount.sum() >= 1;
+        return this;
+    }
+
+    /**
+     * Makes sure that this action gets executed after the provided action
+     * finished, when running via {@link Event#executeParallel(Object)}. <br>
+     * Has no effect on {@link Event#execute(Object)}, which runs the actions in order anyway.
+     */
+    public synchronized Action<T> runAfter(Action<T> action) {
+        if (runAfter == null) runAfter = new CopyOnWriteArrayList<>();
+        runAfter.add(action);
+        return this;
+    }
+
+    /**
+     * Same as {@link #throttle(long, long, TimeUnit, int)}, with a burst of the provided amount of permits.
+     */
+    public Action<T> throttle(long permits, long period, TimeUnit unit) {
+        return throttle(permits, period, unit, (int) Math.min(Integer.MAX_VALUE, permits));
+    }
+
+    /**
+     * Limits this action to be executed at most the provided amount of times per period,
+     * via a lock-free token bucket, see {@link Throttle}. <br>
+     * Executions of throttled actions are dropped, which can be handled via {@link #onThrottled(BetterBiConsumer)}. <br>
+     * {@link #isSkipNextActions} has no effect on executions that were dropped. <br>
+     *
+     * @param permits amount of executions per period.
+     * @param period  time in which the permits get refilled.
+     * @param unit    unit of the period.
+     * @param burst   max amount of executions directly after each other, after being idle for long enough.
+     */
+    public Action<T> throttle(long permits, long period, TimeUnit unit, int burst) {
+        this.throttle = new Throttle(permits, period, unit, burst);
+        return this;
+    }
+
+    /**
+     * See {@link #onThrottled}.
+     */
+    public Action<T> onThrottled(BetterBiConsumer<Action<T>, T> onThrottled) {
+        this.onThrottled = onThrottled;
         return this;
     }
 
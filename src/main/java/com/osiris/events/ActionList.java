@@ -0,0 +1,420 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe list of actions, used by {@link Event#actions}. <br>
+ * Like {@link java.util.concurrent.CopyOnWriteArrayList}, reading and iterating happens on an immutable snapshot
+ * and never blocks, but adding an action does not copy the whole array every time. <br>
+ * Appends write into the free capacity of a shared array and only publish a new (array, size) snapshot,
+ * thus {@link #add(Action)} is amortized O(1). Older snapshots stay valid, since they never look past their own size
+ * and every other mutation (remove, insert, set, clear) creates a new array. <br>
+ * Bulk operations like {@link #addAll(Collection)} and {@link #removeAll(Collection)} publish a single new snapshot. <br>
+ * Inserting anywhere but at the end ({@link #add(int, Action)}, {@link #addSorted(Action)} with a higher priority than the last action)
+ * and removing single actions ({@link #remove(int)}, {@link #remove(Object)}) copy the array and thus are O(n), like for
+ * {@link java.util.concurrent.CopyOnWriteArrayList}. That is on purpose: executing iterates a single flat array,
+ * which a chunked or tree-based structure would slow down. Prefer the bulk operations to remove many actions at once. <br>
+ * Writers are synchronized with each other.
+ */
+public class ActionList<T> extends AbstractList<Action<T>> implements RandomAccess {
+    private static final Action<?>[] EMPTY_ARRAY = new Action<?>[0];
+    private final Object lock = new Object();
+    private volatile Snapshot<T> snapshot = new Snapshot<>(emptyArray(), 0);
+
+    public ActionList() {
+    }
+
+    public ActionList(Collection<? extends Action<T>> actions) {
+        addAll(actions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Action<T>[] emptyArray() {
+        return (Action<T>[]) EMPTY_ARRAY;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Action<T>[] newArray(int capacity) {
+        return (Action<T>[]) new Action<?>[capacity];
+    }
+
+    private static int grownCapacity(int minCapacity) {
+        int capacity = minCapacity + (minCapacity >> 1);
+        return Math.max(capacity, 10);
+    }
+
+    /**
+     * Returns the current immutable snapshot. <br>
+     * Only the elements from index 0 to {@link Snapshot#size} (exclusive) of {@link Snapshot#array} are valid.
+     */
+    Snapshot<T> snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.size == 0;
+    }
+
+    @Override
+    public Action<T> get(int index) {
+        Snapshot<T> snap = snapshot;
+        if (index < 0 || index >= snap.size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + snap.size);
+        return snap.array[index];
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Snapshot<T> snap = snapshot;
+        return indexOf(o, snap.array, snap.size);
+    }
+
+    private static int indexOf(Object o, Object[] array, int size) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, array[i])) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<Action<T>> iterator() {
+        return new SnapshotIterator<>(snapshot);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Action<T>> action) {
+        Snapshot<T> snap = snapshot;
+        for (int i = 0; i < snap.size; i++) {
+            action.accept(snap.array[i]);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Snapshot<T> snap = snapshot;
+        return Arrays.copyOf(snap.array, snap.size, Object[].class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> E[] toArray(E[] a) {
+        Snapshot<T> snap = snapshot;
+        if (a.length < snap.size)
+            return (E[]) Arrays.copyOf(snap.array, snap.size, a.getClass());
+        System.arraycopy(snap.array, 0, a, 0, snap.size);
+        if (a.length > snap.size) a[snap.size] = null;
+        return a;
+    }
+
+    @Override
+    public boolean add(Action<T> action) {
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            Action<T>[] array = snap.array;
+            if (snap.size == array.length)
+                array = Arrays.copyOf(array, grownCapacity(snap.size + 1));
+            array[snap.size] = action;
+            snapshot = new Snapshot<>(array, snap.size + 1);
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, Action<T> action) {
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            if (index < 0 || index > snap.size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + snap.size);
+            Action<T>[] array = newArray(grownCapacity(snap.size + 1));
+            System.arraycopy(snap.array, 0, array, 0, index);
+            array[index] = action;
+            System.arraycopy(snap.array, index, array, index + 1, snap.size - index);
+            snapshot = new Snapshot<>(array, snap.size + 1);
+        }
+    }
+
+    /**
+     * Adds all provided actions and publishes a single new snapshot.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Action<T>> actions) {
+        Object[] toAdd = actions.toArray();
+        if (toAdd.length == 0) return false;
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            Action<T>[] array = snap.array;
+            int newSize = snap.size + toAdd.length;
+            if (newSize > array.length)
+                array = Arrays.copyOf(array, grownCapacity(newSize));
+            System.arraycopy(toAdd, 0, array, snap.size, toAdd.length);
+            snapshot = new Snapshot<>(array, newSize);
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the provided action after all actions with a higher or equal {@link Action#priority},
+     * thus the list stays sorted by priority (highest first) and actions with the same priority keep their insertion order. <br>
+     * The index is found via binary search. Appending (the action has the lowest priority) is amortized O(1),
+     * otherwise a new array is created, like for {@link #add(int, Action)}, which is O(n). <br>
+     * Only keeps the list sorted, if it was sorted before, thus all actions should be added via this method.
+     *
+     * @return the index the action was inserted at.
+     */
+    public int addSorted(Action<T> action) {
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            int index = insertionIndex(snap, action.priority);
+            if (index == snap.size) add(action);
+            else add(index, action);
+            return index;
+        }
+    }
+
+    /**
+     * Returns the index after the last action with a priority higher or equal to the provided one.
+     */
+    private static <T> int insertionIndex(Snapshot<T> snap, int priority) {
+        int low = 0, high = snap.size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (snap.array[middle].priority >= priority) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Adds all provided actions like {@link #addSorted(Action)} and publishes a single new snapshot. <br>
+     * If the actions would be appended anyway, this is as fast as {@link #addAll(Collection)},
+     * otherwise they are sorted and merged with the current actions in a single pass.
+     */
+    public boolean addAllSorted(Collection<? extends Action<T>> actions) {
+        Action<T>[] toAdd = actions.toArray(newArray(0));
+        if (toAdd.length == 0) return false;
+        boolean sorted = true;
+        for (int i = 1; i < toAdd.length && sorted; i++) {
+            sorted = toAdd[i - 1].priority >= toAdd[i].priority;
+        }
+        if (!sorted) Arrays.sort(toAdd, (a, b) -> Integer.compare(b.priority, a.priority)); // Stable
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            if (snap.size == 0 || snap.array[snap.size - 1].priority >= toAdd[0].priority)
+                return addAll(Arrays.asList(toAdd));
+            int newSize = snap.size + toAdd.length;
+            Action<T>[] array = newArray(grownCapacity(newSize));
+            int i = 0, j = 0, k = 0;
+            while (i < snap.size && j < toAdd.length) {
+                if (snap.array[i].priority >= toAdd[j].priority) array[k++] = snap.array[i++];
+                else array[k++] = toAdd[j++];
+            }
+            while (i < snap.size) array[k++] = snap.array[i++];
+            while (j < toAdd.length) array[k++] = toAdd[j++];
+            snapshot = new Snapshot<>(array, newSize);
+            return true;
+        }
+    }
+
+    @Override
+    public Action<T> set(int index, Action<T> action) {
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            if (index < 0 || index >= snap.size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + snap.size);
+            Action<T>[] array = Arrays.copyOf(snap.array, snap.array.length);
+            Action<T> old = array[index];
+            array[index] = action;
+            snapshot = new Snapshot<>(array, snap.size);
+            return old;
+        }
+    }
+
+    @Override
+    public Action<T> remove(int index) {
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            if (index < 0 || index >= snap.size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + snap.size);
+            Action<T> old = snap.array[index];
+            removeAt(snap, index);
+            return old;
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        synchronized (lock) {
+            Snapshot<T> snap = snapshot;
+            int index = indexOf(o, snap.array, snap.size);
+            if (index < 0) return false;
+            removeAt(snap, index);
+            return true;
+        }
+    }
+
+    private void removeAt(Snapshot<T> snap, int index) {
+        int newSize = snap.size - 1;
+        Action<T>[] array = newArray(grownCapacity(newSize));
+        System.arraycopy(snap.array, 0, array, 0, index);
+        System.arraycopy(snap.array, index + 1, array, index, newSize - index);
+        snapshot = new Snapshot<>(array, newSize);
+    }
+
+    /**
+     * Removes all matching actions with a single sweep and publishes a single new snapshot. <br>
+     * The filter is evaluated on the current snapshot without holding the writers lock,
+     * the indexes to remove are stored in a bitset and the survivors then get compacted into a new array. <br>
+     * If another writer replaced the array in the meantime, the filter is evaluated again on the new snapshot.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Action<T>> filter) {
+        Objects.requireNonNull(filter);
+        Snapshot<T> snap = snapshot;
+        long[] removable = markRemovable(filter, snap.array, 0, snap.size, new long[bitsetLength(snap.size)]);
+        synchronized (lock) {
+            Snapshot<T> current = snapshot;
+            if (current.array == snap.array) { // Only appends happened in the meantime, so the marks are still valid
+                if (current.size != snap.size)
+                    removable = markRemovable(filter, current.array, snap.size, current.size,
+                            Arrays.copyOf(removable, bitsetLength(current.size)));
+            } else
+                removable = markRemovable(filter, current.array, 0, current.size, new long[bitsetLength(current.size)]);
+            return compact(current, removable);
+        }
+    }
+
+    private static int bitsetLength(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private static <T> long[] markRemovable(Predicate<? super Action<T>> filter, Action<T>[] array, int from, int to, long[] bitset) {
+        for (int i = from; i < to; i++) {
+            if (filter.test(array[i])) bitset[i >>> 6] |= 1L << i;
+        }
+        return bitset;
+    }
+
+    /**
+     * Copies all actions whose bit is not set into a new array and publishes it. Must hold the lock.
+     */
+    private boolean compact(Snapshot<T> snap, long[] removable) {
+        int removeCount = 0;
+        for (long word : removable) {
+            removeCount += Long.bitCount(word);
+        }
+        if (removeCount == 0) return false;
+        int newSize = snap.size - removeCount;
+        Action<T>[] array = newArray(grownCapacity(newSize));
+        int newIndex = 0;
+        int i = nextClearBit(removable, 0, snap.size);
+        while (i < snap.size) { // Copy each run of survivors at once
+            int end = nextSetBit(removable, i, snap.size);
+            System.arraycopy(snap.array, i, array, newIndex, end - i);
+            newIndex += end - i;
+            i = nextClearBit(removable, end, snap.size);
+        }
+        snapshot = new Snapshot<>(array, newSize);
+        return true;
+    }
+
+    private static int nextSetBit(long[] bitset, int from, int size) {
+        int wordIndex = from >>> 6;
+        if (wordIndex >= bitset.length) return size;
+        long word = bitset[wordIndex] & (-1L << from);
+        while (word == 0) {
+            if (++wordIndex == bitset.length) return size;
+            word = bitset[wordIndex];
+        }
+        return Math.min(size, (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    private static int nextClearBit(long[] bitset, int from, int size) {
+        int wordIndex = from >>> 6;
+        if (wordIndex >= bitset.length) return size;
+        long word = ~bitset[wordIndex] & (-1L << from);
+        while (word == 0) {
+            if (++wordIndex == bitset.length) return size;
+            word = ~bitset[wordIndex];
+        }
+        return Math.min(size, (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    /**
+     * Removes all provided actions with a single sweep and publishes a single new snapshot.
+     */
+    @Override
+    public boolean removeAll(Collection<?> actions) {
+        Objects.requireNonNull(actions);
+        Collection<?> set = actions instanceof Set ? actions : new HashSet<>(actions);
+        return removeIf(set::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> actions) {
+        Objects.requireNonNull(actions);
+        return removeIf(action -> !actions.contains(action));
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            snapshot = new Snapshot<>(emptyArray(), 0);
+        }
+    }
+
+    /**
+     * Immutable view of the list at a certain point in time.
+     */
+    static final class Snapshot<T> {
+        final Action<T>[] array;
+        final int size;
+
+        Snapshot(Action<T>[] array, int size) {
+            this.array = array;
+            this.size = size;
+        }
+    }
+
+    private static final class SnapshotIterator<T> implements Iterator<Action<T>> {
+        private final Action<T>[] array;
+        private final int size;
+        private int cursor;
+
+        SnapshotIterator(Snapshot<T> snap) {
+            this.array = snap.array;
+            this.size = snap.size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Action<T> next() {
+            if (cursor >= size) throw new NoSuchElementException();
+            return array[cursor++];
+        }
+    }
+}
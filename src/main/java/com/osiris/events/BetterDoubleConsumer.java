@@ -0,0 +1,24 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+/**
+ * Makes handling exceptions easier. <br>
+ * Primitive specialization of {@link BetterConsumer} that avoids boxing.
+ *
+ * @see java.util.function.DoubleConsumer
+ */
+@FunctionalInterface
+public interface BetterDoubleConsumer {
+
+    /**
+     * @see java.util.function.DoubleConsumer
+     */
+    void accept(double value) throws Exception;
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+/**
+ * Makes handling exceptions easier.
+ *
+ * @see java.lang.Runnable
+ */
+@FunctionalInterface
+public interface BetterRunnable {
+
+    /**
+     * @see java.lang.Runnable
+     */
+    void run() throws Exception;
+}
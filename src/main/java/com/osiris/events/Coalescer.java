@@ -0,0 +1,212 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debounces and coalesces executions of an {@link Event}, see {@link Event#initCoalescing(long, TimeUnit, boolean, boolean, long)}. <br>
+ * Only keeps the latest value of a burst of {@link #execute(Object)} calls and executes the event with it once the burst ended
+ * (trailing edge), optionally also directly at the start of the burst (leading edge) and at least every {@link #maxWaitMillis} while the burst goes on. <br>
+ * A burst ends once there were no calls for {@link #waitMillis}. <br>
+ * Timing is done by the shared {@link Event#cleanerWheel}, thus no thread is needed per event.
+ * There is only one pending timeout at a time, no matter how often {@link #execute(Object)} gets called. <br>
+ * Leading edge executions happen in the calling thread, all others via the {@link Event#executor}. <br>
+ * Executions never overlap: while one is running, the next value waits and gets replaced by newer ones,
+ * thus values are executed in order and the latest one is always executed last. <br>
+ */
+public class Coalescer<T> {
+    public final Event<T> event;
+    /**
+     * Time without calls, after which a burst ends.
+     */
+    public final long waitMillis;
+    /**
+     * If true, the first value of a burst gets executed directly.
+     */
+    public final boolean isLeading;
+    /**
+     * If true, the latest value of a burst gets executed once it ended, if it was not executed yet.
+     */
+    public final boolean isTrailing;
+    /**
+     * Max time a value can be delayed while a burst goes on, or 0 to wait until the burst ended.
+     * If equal to {@link #waitMillis}, the event is executed at most once per window (throttling).
+     */
+    public final long maxWaitMillis;
+    private T latest;
+    private boolean hasLatest;
+    private long lastCallTick;
+    /**
+     * Tick of the last execution or the start of the burst, used for {@link #maxWaitMillis}.
+     */
+    private long windowStartTick;
+    private TimingWheel.Timeout timeout;
+    /**
+     * Changes once a burst gets cancelled, so that a timeout that was already running when being cancelled does nothing.
+     */
+    private long generation;
+    /**
+     * True while an execution is running, see {@link #dispatch(Object)}.
+     */
+    private boolean isRunning;
+    /**
+     * Value to execute once the running execution finished.
+     */
+    private T pending;
+    private boolean hasPending;
+
+    /**
+     * @param event      event to execute.
+     * @param wait       See {@link #waitMillis}.
+     * @param unit       unit of wait and maxWait.
+     * @param isLeading  See {@link #isLeading}.
+     * @param isTrailing See {@link #isTrailing}.
+     * @param maxWait    See {@link #maxWaitMillis}.
+     */
+    public Coalescer(Event<T> event, long wait, TimeUnit unit, boolean isLeading, boolean isTrailing, long maxWait) {
+        this.event = event;
+        this.waitMillis = Math.max(1, unit.toMillis(wait));
+        this.isLeading = isLeading;
+        this.isTrailing = isTrailing;
+        this.maxWaitMillis = maxWait <= 0 ? 0 : Math.max(waitMillis, unit.toMillis(maxWait));
+    }
+
+    /**
+     * Remembers the provided value, until the event gets executed with it, or with a newer value. <br>
+     * Executes the event directly, if {@link #isLeading} is enabled and no burst is going on.
+     */
+    public void execute(T t) {
+        synchronized (this) {
+            long now = Event.cleanerWheel.nowTick();
+            lastCallTick = now;
+            if (timeout != null) { // Burst is going on
+                latest = t;
+                hasLatest = true;
+                return;
+            }
+            windowStartTick = now;
+            long generation = this.generation;
+            timeout = Event.cleanerWheel.schedule(() -> onTimeout(generation), waitMillis);
+            if (!isLeading) {
+                latest = t;
+                hasLatest = true;
+                return;
+            }
+            if (!dispatch(t)) return;
+        }
+        run(t);
+    }
+
+    /**
+     * Must be called while holding the lock.
+     *
+     * @return true if the provided value must be executed now by the caller, via {@link #run(Object)},
+     * false if it gets executed once the running execution finished.
+     */
+    private boolean dispatch(T t) {
+        if (isRunning) {
+            pending = t;
+            hasPending = true;
+            return false;
+        }
+        isRunning = true;
+        return true;
+    }
+
+    private void run(T t) {
+        try {
+            event.execute(t);
+        } finally {
+            finished();
+        }
+    }
+
+    /**
+     * Starts the pending execution via the {@link Event#executor}, if any.
+     */
+    private void finished() {
+        T t;
+        synchronized (this) {
+            if (!hasPending) {
+                isRunning = false;
+                return;
+            }
+            t = pending;
+            pending = null;
+            hasPending = false;
+        }
+        event.executor.execute(() -> run(t));
+    }
+
+    private void onTimeout(long generation) {
+        T toExecute = null;
+        boolean execute = false;
+        synchronized (this) {
+            if (generation != this.generation) return;
+            long now = Event.cleanerWheel.nowTick();
+            if (now - lastCallTick >= waitMillis) { // Burst ended
+                timeout = null;
+                if (isTrailing && hasLatest) {
+                    toExecute = latest;
+                    execute = dispatch(toExecute);
+                }
+                latest = null;
+                hasLatest = false;
+            } else {
+                if (maxWaitMillis > 0 && now - windowStartTick >= maxWaitMillis) {
+                    windowStartTick = now;
+                    if (hasLatest) {
+                        toExecute = latest;
+                        execute = dispatch(toExecute);
+                        latest = null;
+                        hasLatest = false;
+                    }
+                }
+                long next = lastCallTick + waitMillis;
+                if (maxWaitMillis > 0) next = Math.min(next, windowStartTick + maxWaitMillis);
+                timeout = Event.cleanerWheel.schedule(() -> onTimeout(generation), next - now);
+            }
+        }
+        if (execute) {
+            T t = toExecute;
+            event.executor.execute(() -> run(t));
+        }
+    }
+
+    /**
+     * Executes the event directly in the current thread with the latest value, if there is one, and ends the current burst. <br>
+     * If an execution is running, the latest value gets executed via the {@link Event#executor} once it finished instead. <br>
+     */
+    public void flush() {
+        T toExecute;
+        synchronized (this) {
+            if (!hasLatest) return;
+            toExecute = latest;
+            cancel();
+            if (!dispatch(toExecute)) return;
+        }
+        run(toExecute);
+    }
+
+    /**
+     * Drops the latest value and the value waiting for the running execution without executing them and ends the current burst.
+     */
+    public synchronized void cancel() {
+        generation++;
+        pending = null;
+        hasPending = false;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+        latest = null;
+        hasLatest = false;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Action of an {@link DoubleEvent}, that receives the primitive value without boxing. <br>
+ * See {@link Action} for details.
+ */
+public class DoubleAction extends Action<Double> {
+    /**
+     * Holds code. Gets executed by {@link DoubleEvent#execute(double)}. <br>
+     * {@link #onEvent} wraps this, so that the action can also be executed via {@link Event#execute(Object)}.
+     */
+    public final BetterDoubleConsumer onDouble;
+
+    /**
+     * Creates an action.
+     *
+     * @param onDouble       See {@link DoubleAction#onDouble}.
+     * @param onException See {@link Action#onException}.
+     * @param isOneTime   See {@link Action#isOneTime}.
+     * @param object      See {@link Action#object}.
+     */
+    public DoubleAction(Event<Double> event, BetterDoubleConsumer onDouble, Consumer<Exception> onException, boolean isOneTime, Object object) {
+        super(event, (action, value) -> onDouble.accept(value), onException, isOneTime, object);
+        this.onDouble = onDouble;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Event for primitive double values, that does not box the value and allocates nothing when executed. <br>
+ * Has the same features as {@link Event}, like one time actions, remove conditions and cleaners. <br>
+ * Actions added via {@link #addDoubleAction(BetterDoubleConsumer)} receive the primitive value,
+ * other actions receive the boxed value. <br>
+ */
+public class DoubleEvent extends Event<Double> {
+
+    /**
+     * Executes all the {@link #actions} for this event, like {@link #execute(Object)} but without boxing the value
+     * for {@link DoubleAction}s. <br>
+     *
+     * @param value value to pass over to the actions.
+     * @return this event for chaining.
+     */
+    public DoubleEvent execute(double value) {
+        long start = startNanos();
+        Object recording = FlightRecorder.beginExecute();
+        if (replay != null || journal != null) record(value); // Boxes only if replay or journaling is initialised
+        ActionList.Snapshot<Double> snapshot = actionList.snapshot();
+        Action<Double>[] array = snapshot.array;
+        for (int i = 0; i < snapshot.size; i++) {
+            Action<Double> action = array[i];
+            Object actionRecording = null;
+            try {
+                if (!isRemovable(action) && (action.throttle == null || !isThrottled(action, value))) { // Boxes only for actions with a throttle
+                    long actionStart = startNanos();
+                    actionRecording = FlightRecorder.beginAction();
+                    if (action instanceof DoubleAction) ((DoubleAction) action).onDouble.accept(value);
+                    else action.onEvent.accept(action, value);
+                    executed(action, 1, actionStart, actionRecording);
+                    if (action.isSkipNextActions) break;
+                }
+            } catch (Exception e) {
+                failed(action, e, actionRecording);
+            }
+        }
+        removeActionsToRemove();
+        executed(start, recording, snapshot.size);
+        return this;
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code.
+     */
+    public DoubleAction addDoubleAction(BetterDoubleConsumer onEvent) {
+        return addDoubleAction(onEvent, ex -> {
+            throw new RuntimeException(ex);
+        }, false, null);
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code.
+     */
+    public DoubleAction addOneTimeDoubleAction(BetterDoubleConsumer onEvent) {
+        return addDoubleAction(onEvent, ex -> {
+            throw new RuntimeException(ex);
+        }, true, null);
+    }
+
+    /**
+     * See {@link #addDoubleAction(BetterDoubleConsumer, Consumer, boolean, Object)} for details. <br>
+     */
+    public DoubleAction addDoubleAction(BetterDoubleConsumer onEvent, Consumer<Exception> onException) {
+        return addDoubleAction(onEvent, onException, false, null);
+    }
+
+    /**
+     * See {@link #addDoubleAction(BetterDoubleConsumer, Consumer, boolean, Object)} for details. <br>
+     */
+    public DoubleAction addOneTimeDoubleAction(BetterDoubleConsumer onEvent, Consumer<Exception> onException) {
+        return addDoubleAction(onEvent, onException, true, null);
+    }
+
+    /**
+     * Creates and adds a new action to the {@link #actions} list, that receives the primitive value. <br>
+     * See {@link #addAction(BetterBiConsumer, Consumer)} for details. <br>
+     *
+     * @param onEvent     See {@link DoubleAction#onDouble}.
+     * @param onException See {@link Action#onException}.
+     * @param isOneTime   See {@link Action#isOneTime}.
+     * @param object      See {@link Action#object}.
+     */
+    public DoubleAction addDoubleAction(BetterDoubleConsumer onEvent, Consumer<Exception> onException, boolean isOneTime, Object object) {
+        DoubleAction action = new DoubleAction(this, onEvent, onException, isOneTime, object);
+        addAction(action);
+        return action;
+    }
+}
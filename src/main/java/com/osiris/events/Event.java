@@ -8,67 +8,119 @@
 
 package com.osiris.events;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class Event<T> {
-    private static final Map<Integer, WrappedRunnable> map = new HashMap<>();
     /**
-     * Single thread that executes {@link #cleanerRunnable} of every event. <br>
+     * Single thread that executes the {@link #cleanerRunnable} of every event, when its interval is due. <br>
      * Responsible for event garbage collection. <br>
      */
-    private static final Thread mainCleanerThread = new Thread(() -> {
-        try {
-            while (true) {
-                Thread.sleep(1000);
-                synchronized (map) {
-                    map.forEach((sleepSeconds, wrappedRunnable) -> {
-                        wrappedRunnable.currentSleepSeconds--;
-                        if (wrappedRunnable.currentSleepSeconds <= 0) {
-                            wrappedRunnable.currentSleepSeconds = sleepSeconds;
-                            for (Event<?> event : wrappedRunnable.events) {
-                                event.cleanerRunnable.run();
-                            }
-                            List<Event<?>> removableEvents = new ArrayList<>(0);
-                            for (Event<?> event : wrappedRunnable.events) {
-                                if (event.actions.isEmpty())
-                                    removableEvents.add(event);
-
-                            }
-                            for (Event<?> removableEvent : removableEvents) {
-                                wrappedRunnable.events.remove(removableEvent);
-                            }
-                        }
-                    });
-                }
-            }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    });
-
-    static {
-        mainCleanerThread.setName("Easy-Java-Events-Cleaner");
-        mainCleanerThread.start();
-    }
+    static final TimingWheel cleanerWheel = new TimingWheel("Easy-Java-Events-Cleaner");
 
+    /**
+     * Same list as {@link #actions}, for internal access to its snapshots and sorted inserts.
+     */
+    final ActionList<T> actionList = new ActionList<>();
     /**
      * List of actions that get executed when this event happens. <br>
+     * Backed by an {@link ActionList}, thus iterating it never blocks and works on a snapshot. <br>
      * See also: <br>
      * {@link #execute(Object)} <br>
      * {@link #addAction(BetterBiConsumer, Consumer)} <br>
+     * {@link #addActions(Collection)} <br>
+     */
+    public final List<Action<T>> actions = actionList;
+    /**
+     * Same queue as {@link #actionsToRemove}, for internal access to {@link ConcurrentLinkedQueue#poll()}.
+     */
+    private final ConcurrentLinkedQueue<Action<T>> removalQueue = new ConcurrentLinkedQueue<>();
+    /**
+     * Actions that are pending removal from the {@link #actions} list. <br>
+     * Backed by a lock-free queue, thus adding never blocks. <br>
+     * See {@link #removeActionsToRemove()}. <br>
      */
-    public final CopyOnWriteArrayList<Action<T>> actions = new CopyOnWriteArrayList<>();
-    public final CopyOnWriteArrayList<Action<T>> actionsToRemove = new CopyOnWriteArrayList<>();
+    public final Collection<Action<T>> actionsToRemove = removalQueue;
+    /**
+     * Owners of {@link WeakAction}s that were garbage collected, see {@link #addWeakAction(Object, BetterBiConsumer, Consumer)}.
+     */
+    private final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
     public Predicate<Object> defaultActionRemoveCondition;
+    /**
+     * If true, the remove conditions are not checked on every execution, but only once when an action gets added
+     * and when the state of an action changes, via {@link Action#setObject(Object)} or {@link Action#invalidate()}. <br>
+     * Executing only reads the {@link Action#isRemovable} flag of each action then, and the cleaner skips checking the actions. <br>
+     * One time actions get marked as removable directly after being executed. <br>
+     * Conditions that depend on other state than the {@link Action#object} must be re-checked via {@link Action#invalidate()}. <br>
+     * See {@link #usePushRemoval()}. <br>
+     */
+    public boolean isPushRemoval = false;
     public Consumer<Exception> onConditionException;
+    /**
+     * Interval of the cleaner in seconds (rounded down), see {@link #millisBetweenChecks}.
+     */
     public int secondsBetweenChecks = 0;
+    /**
+     * Interval of the cleaner in milliseconds.
+     */
+    public long millisBetweenChecks = 0;
     public Runnable cleanerRunnable;
+    /**
+     * Schedules the {@link #cleanerRunnable} at the {@link #cleanerWheel}. Null if no cleaner was initialised.
+     */
+    private volatile WrappedRunnable cleanerTask;
+    /**
+     * Default executor used by {@link #executeAsync(Object)}. <br>
+     * Uses the {@link ForkJoinPool#commonPool()} by default. Replace it with your own pool if your actions block, for example due to I/O. <br>
+     */
+    public Executor executor = ForkJoinPool.commonPool();
+    /**
+     * Pool used by {@link #executeParallel(Object)}. <br>
+     * Uses the {@link ForkJoinPool#commonPool()} by default. <br>
+     */
+    public ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+    /**
+     * {@link #executeParallel(Object)} only runs actions in parallel if there are at least this many actions,
+     * otherwise the fork/join overhead would outweigh the gain. <br>
+     */
+    public int parallelThreshold = 16;
+    /**
+     * Null if metrics are disabled (default), thus nothing gets recorded. <br>
+     * See {@link #enableMetrics()}. <br>
+     */
+    public volatile EventMetrics metrics;
+    /**
+     * Null if coalescing is not initialised. Used by {@link #executeCoalesced(Object)}. <br>
+     * See {@link #initCoalescing(long, TimeUnit, boolean, boolean, long)}. <br>
+     */
+    public volatile Coalescer<T> coalescer;
+    /**
+     * Null if queued execution is not initialised. Used by {@link #executeQueued(Object)}. <br>
+     * See {@link #initQueue(int, EventQueue.OverflowPolicy)}. <br>
+     */
+    public volatile EventQueue<T> queue;
+    /**
+     * Null if replay is not initialised. Contains the last values this event was executed with,
+     * which get replayed to newly added actions. <br>
+     * See {@link #initReplay(int)}. <br>
+     */
+    public volatile ReplayCache<T> replay;
+    /**
+     * Null if journaling is not initialised. Appends each value this event gets executed with to disk. <br>
+     * See {@link #initJournal(Path, EventJournal.Codec)}. <br>
+     */
+    public volatile EventJournal<T> journal;
 
     /**
      * Creates a new event with an empty {@link #actions} list.
@@ -82,7 +134,7 @@ public class Event<T> {
      * @param actions See {@link #actions}.
      */
     public Event(List<Action<T>> actions) {
-        this.actions.addAll(actions);
+        actionList.addAllSorted(actions);
     }
 
 
@@ -95,18 +147,596 @@ public class Event<T> {
      * @return this event for chaining.
      */
     public Event<T> execute(T t) {
-        for (Action<T> action : actions) {
+        long start = startNanos();
+        Object recording = FlightRecorder.beginExecute();
+        record(t);
+        ActionList.Snapshot<T> snapshot = actionList.snapshot();
+        executeActions(snapshot, t);
+        removeActionsToRemove();
+        executed(start, recording, snapshot.size);
+        return this;
+    }
+
+    /**
+     * Executes the actions of the provided snapshot in order, via {@link #executeAction(Action, Object)}.
+     *
+     * @return true if the next actions should be skipped.
+     */
+    boolean executeActions(ActionList.Snapshot<T> snapshot, T t) {
+        Action<T>[] array = snapshot.array;
+        for (int i = 0; i < snapshot.size; i++) {
+            if (executeAction(array[i], t)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #executeAll(Collection)}. <br>
+     * Not named execute, since execute(null) would be ambiguous otherwise.
+     */
+    public Event<T> executeAll(T[] values) {
+        return executeAll(Arrays.asList(values));
+    }
+
+    /**
+     * Executes all the {@link #actions} for all the provided values, which is faster than calling {@link #execute(Object)} for each value. <br>
+     * In contrast to {@link #execute(Object)}, each action gets executed for all values, before the next action gets executed.
+     * Actions with an {@link Action#onBatch} receive all values in a single call. <br>
+     * The remove conditions are checked once per batch, before each action, except for one time actions, which only receive the first value.
+     * Thus an action that becomes removable during the batch still receives the remaining values of this batch. <br>
+     * {@link Action#isSkipNextActions} is checked after an action received all values. <br>
+     *
+     * @param values objects to pass over to the actions, in order.
+     * @return this event for chaining.
+     */
+    public Event<T> executeAll(Collection<T> values) {
+        if (values.isEmpty()) return this;
+        long start = startNanos();
+        Object recording = FlightRecorder.beginExecute();
+        List<T> list = Collections.unmodifiableList(values instanceof List ? (List<T>) values : new ArrayList<>(values));
+        if (replay != null || journal != null) {
+            for (T t : list) {
+                record(t);
+            }
+        }
+        ActionList.Snapshot<T> snapshot = actionList.snapshot();
+        Action<T>[] array = snapshot.array;
+        for (int i = 0; i < snapshot.size; i++) {
+            Action<T> action = array[i];
             try {
-                if (!markActionAsRemovableIfNeeded(action)) {
-                    action.onEvent.accept(action, t);
-                    action.executionCount++;
-                    if(action.isSkipNextActions) break;
-                }
+                if (isRemovable(action)) continue;
             } catch (Exception e) {
-                action.onException.accept(e);
+                failed(action, e);
+                continue;
             }
+            Throttle throttle = action.throttle;
+            if (action.onBatch != null) {
+                if (throttle != null && !throttle.tryAcquire()) { // One permit per batch
+                    for (T t : list) {
+                        throttled(action, t);
+                    }
+                } else {
+                    Object actionRecording = null;
+                    try {
+                        long actionStart = startNanos();
+                        actionRecording = FlightRecorder.beginAction();
+                        action.onBatch.accept(list);
+                        executed(action, list.size(), actionStart, actionRecording);
+                    } catch (Exception e) {
+                        failed(action, e, actionRecording);
+                    }
+                }
+            } else {
+                for (T t : list) {
+                    if (throttle != null && !throttle.tryAcquire()) {
+                        throttled(action, t);
+                        continue;
+                    }
+                    Object actionRecording = null;
+                    try {
+                        long actionStart = startNanos();
+                        actionRecording = FlightRecorder.beginAction();
+                        action.onEvent.accept(action, t);
+                        executed(action, 1, actionStart, actionRecording);
+                    } catch (Exception e) {
+                        failed(action, e, actionRecording);
+                    }
+                    try {
+                        if (action.isOneTime && isRemovable(action)) break;
+                    } catch (Exception e) { // Like above, the action does not get the remaining values then
+                        failed(action, e);
+                        break;
+                    }
+                }
+            }
+            if (action.isSkipNextActions) break;
         }
         removeActionsToRemove();
+        executed(start, recording, snapshot.size);
+        return this;
+    }
+
+    /**
+     * Executes the provided action, if it is not removable. <br>
+     * Exceptions get passed over to {@link Action#onException}. <br>
+     *
+     * @return true if the next actions should be skipped.
+     */
+    boolean executeAction(Action<T> action, T t) {
+        Object recording = null;
+        try {
+            if (!isRemovable(action) && !isThrottled(action, t)) {
+                long start = startNanos();
+                recording = FlightRecorder.beginAction();
+                action.onEvent.accept(action, t);
+                executed(action, 1, start, recording);
+                return action.isSkipNextActions;
+            }
+        } catch (Exception e) {
+            failed(action, e, recording);
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the provided action must not be executed anymore. <br>
+     * Only reads {@link Action#isRemovable} if {@link #isPushRemoval} is enabled,
+     * otherwise checks its remove condition via {@link #markActionAsRemovableIfNeeded(Action)}. <br>
+     */
+    boolean isRemovable(Action<T> action) {
+        return isPushRemoval ? action.isRemovable : markActionAsRemovableIfNeeded(action);
+    }
+
+    /**
+     * Adds the provided value to the {@link #replay} cache and the {@link #journal}, if initialised.
+     */
+    void record(T t) {
+        ReplayCache<T> replay = this.replay;
+        if (replay != null) replay.record(t);
+        EventJournal<T> journal = this.journal;
+        if (journal != null) journal.append(t);
+    }
+
+    /**
+     * Executes the provided action for each value in the {@link #replay} cache, if replay is initialised.
+     */
+    void replayTo(Action<T> action) {
+        ReplayCache<T> replay = this.replay;
+        if (replay == null) return;
+        for (T t : replay.get()) {
+            if (receives(action, t)) executeAction(action, t);
+        }
+        removeActionsToRemove();
+    }
+
+    /**
+     * Returns true if the provided action gets executed for the provided value.
+     */
+    boolean receives(Action<T> action, T t) {
+        return true;
+    }
+
+    /**
+     * Returns true if the provided action has a {@link Action#throttle} without available permits,
+     * thus must not be executed for the provided value. Runs {@link Action#onThrottled} in that case. <br>
+     */
+    boolean isThrottled(Action<T> action, T t) {
+        Throttle throttle = action.throttle;
+        if (throttle == null || throttle.tryAcquire()) return false;
+        throttled(action, t);
+        return true;
+    }
+
+    /**
+     * Runs the {@link Action#onThrottled} code of the provided action, if not null.
+     */
+    void throttled(Action<T> action, T t) {
+        if (action.onThrottled == null) return;
+        try {
+            action.onThrottled.accept(action, t);
+        } catch (Exception e) {
+            failed(action, e);
+        }
+    }
+
+    /**
+     * Returns the current {@link System#nanoTime()} if {@link #metrics} are enabled, otherwise 0.
+     */
+    long startNanos() {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records the duration of an execution of this event, if {@link #metrics} are enabled,
+     * and commits the flight recorder event.
+     *
+     * @param startNanos  returned by {@link #startNanos()} before the execution.
+     * @param recording   returned by {@link FlightRecorder#beginExecute()} before the execution.
+     * @param actionCount amount of actions that were part of the execution.
+     */
+    void executed(long startNanos, Object recording, int actionCount) {
+        FlightRecorder.commitExecute(recording, this, actionCount);
+        EventMetrics metrics = this.metrics;
+        if (metrics != null && startNanos != 0) {
+            metrics.executeCount.increment();
+            metrics.executeLatency.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Increases the {@link Action#executionCount} of the provided action and marks it as removable,
+     * if it is a one time action and {@link #isPushRemoval} is enabled. <br>
+     * Also records the duration of the execution, if {@link #metrics} are enabled, and commits the flight recorder event.
+     *
+     * @param startNanos returned by {@link #startNanos()} before the execution.
+     * @param recording  returned by {@link FlightRecorder#beginAction()} before the execution.
+     */
+    void executed(Action<T> action, long count, long startNanos, Object recording) {
+        FlightRecorder.commitAction(recording, action);
+        action.executionCount.add(count);
+        if (startNanos != 0 && metrics != null) action.metrics().latency.record(System.nanoTime() - startNanos);
+        if (isPushRemoval && action.isOneTime) markActionAsRemovable(action);
+    }
+
+    /**
+     * Same as {@link #failed(Action, Exception)}, but also commits the flight recorder event of the failed execution,
+     * since failing actions are often the slow ones.
+     *
+     * @param recording returned by {@link FlightRecorder#beginAction()} before the execution, or null if it failed before that.
+     */
+    void failed(Action<T> action, Exception e, Object recording) {
+        FlightRecorder.commitAction(recording, action);
+        failed(action, e);
+    }
+
+    /**
+     * Passes the provided exception over to {@link Action#onException} and counts it, if {@link #metrics} are enabled.
+     */
+    void failed(Action<T> action, Exception e) {
+        EventMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.exceptionCount.increment();
+            action.metrics().exceptionCount.increment();
+        }
+        action.onException.accept(e);
+    }
+
+    /**
+     * Enables the {@link #metrics} of this event and its actions, if not already enabled.
+     *
+     * @return this event for chaining.
+     */
+    public synchronized Event<T> enableMetrics() {
+        if (metrics == null) metrics = new EventMetrics();
+        return this;
+    }
+
+    /**
+     * Disables the {@link #metrics} of this event and its actions. Recorded metrics are lost.
+     *
+     * @return this event for chaining.
+     */
+    public synchronized Event<T> disableMetrics() {
+        metrics = null;
+        for (Action<T> action : actions) {
+            action.metrics = null;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the current metrics of this event and all its actions, or null if metrics are disabled.
+     * See {@link #enableMetrics()}.
+     */
+    public EventMetrics.Snapshot getMetricsSnapshot() {
+        EventMetrics metrics = this.metrics;
+        if (metrics == null) return null;
+        List<Action<T>> actions = new ArrayList<>();
+        forEachAction(actions::add);
+        return metrics.snapshot(actions);
+    }
+
+    /**
+     * Enables {@link #isPushRemoval} and checks the remove conditions of the current actions once.
+     *
+     * @return this event for chaining.
+     */
+    public Event<T> usePushRemoval() {
+        isPushRemoval = true;
+        forEachAction(this::markActionAsRemovableIfNeeded);
+        return this;
+    }
+
+    /**
+     * Executes all the {@link #actions} for this event in parallel, via the {@link #parallelPool}, and returns once all of them finished. <br>
+     * Actions are independent of each other, unless they declared dependencies via {@link Action#runAfter(Action)}. <br>
+     * An action with {@link Action#isSkipNextActions} acts as barrier: all actions before it finish first, then it gets executed alone and
+     * the actions after it get skipped (if it still has {@link Action#isSkipNextActions} enabled after being executed). Thus dependencies
+     * are only respected between actions that are not separated by such a barrier. <br>
+     * Falls back to {@link #execute(Object)} if there are less actions than {@link #parallelThreshold},
+     * or if the pool has no parallelism, since the fork/join overhead would be higher than the gain. <br>
+     * If an {@link Action#onException} throws an exception, the actions depending on it are not executed and the exception gets
+     * rethrown once all other actions finished. <br>
+     *
+     * @param t optional object to pass over to the action, so that it has more information about the occured event.
+     * @return this event for chaining.
+     * @throws IllegalStateException if the dependencies contain a cycle. Checked before any action gets executed.
+     */
+    public Event<T> executeParallel(T t) {
+        long startNanos = startNanos();
+        Object recording = FlightRecorder.beginExecute();
+        record(t);
+        ActionList.Snapshot<T> snapshot = actionList.snapshot();
+        executeActionsParallel(snapshot, t);
+        removeActionsToRemove();
+        executed(startNanos, recording, snapshot.size);
+        return this;
+    }
+
+    /**
+     * Executes the actions of the provided snapshot like {@link #executeParallel(Object)},
+     * but without recording the value, removing actions or committing metrics.
+     */
+    void executeActionsParallel(ActionList.Snapshot<T> snapshot, T t) {
+        ForkJoinPool pool = parallelPool;
+        Action<T>[] array = snapshot.array;
+        int start = 0;
+        if (snapshot.size < parallelThreshold || pool.getParallelism() <= 1) {
+            executeActions(snapshot, t);
+            start = snapshot.size;
+        } else {
+            checkDependencies(array, snapshot.size);
+        }
+        while (start < snapshot.size) {
+            int barrier = start;
+            while (barrier < snapshot.size && !array[barrier].isSkipNextActions) barrier++;
+            executeParallel(array, start, barrier, t, pool);
+            if (barrier < snapshot.size && executeAction(array[barrier], t)) break;
+            start = barrier + 1;
+        }
+    }
+
+    private void executeParallel(Action<T>[] array, int from, int to, T t, ForkJoinPool pool) {
+        if (from == to) return;
+        Set<Action<T>> segment = Collections.newSetFromMap(new IdentityHashMap<>(to - from));
+        for (int i = from; i < to; i++) {
+            segment.add(array[i]);
+        }
+        Map<Action<T>, CompletableFuture<Void>> futures = new IdentityHashMap<>(to - from);
+        Set<Action<T>> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = from; i < to; i++) {
+            fork(array[i], t, pool, segment, futures, visiting);
+        }
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} if the dependencies between the actions of any segment
+     * (the actions between two barriers, see {@link #executeParallel(Object)}) contain a cycle.
+     */
+    private void checkDependencies(Action<T>[] array, int size) {
+        boolean hasDependencies = false;
+        for (int i = 0; i < size && !hasDependencies; i++) {
+            hasDependencies = array[i].runAfter != null;
+        }
+        if (!hasDependencies) return;
+        int start = 0;
+        while (start < size) {
+            int barrier = start;
+            while (barrier < size && !array[barrier].isSkipNextActions) barrier++;
+            Set<Action<T>> segment = Collections.newSetFromMap(new IdentityHashMap<>(barrier - start));
+            for (int i = start; i < barrier; i++) {
+                segment.add(array[i]);
+            }
+            Map<Action<T>, Boolean> isChecked = new IdentityHashMap<>(barrier - start); // False while visiting
+            for (int i = start; i < barrier; i++) {
+                checkDependencies(array[i], segment, isChecked);
+            }
+            start = barrier + 1;
+        }
+    }
+
+    private void checkDependencies(Action<T> action, Set<Action<T>> segment, Map<Action<T>, Boolean> isChecked) {
+        Boolean checked = isChecked.get(action);
+        if (checked != null) {
+            if (!checked) throw new IllegalStateException("Cycle in action dependencies, see Action.runAfter().");
+            return;
+        }
+        isChecked.put(action, false);
+        if (action.runAfter != null)
+            for (Action<T> dependency : action.runAfter) {
+                if (segment.contains(dependency)) checkDependencies(dependency, segment, isChecked);
+            }
+        isChecked.put(action, true);
+    }
+
+    private CompletableFuture<Void> fork(Action<T> action, T t, ForkJoinPool pool, Set<Action<T>> segment,
+                                         Map<Action<T>, CompletableFuture<Void>> futures, Set<Action<T>> visiting) {
+        CompletableFuture<Void> future = futures.get(action);
+        if (future != null) return future;
+        if (!visiting.add(action))
+            throw new IllegalStateException("Cycle in action dependencies, see Action.runAfter().");
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>(0);
+        if (action.runAfter != null)
+            for (Action<T> dependency : action.runAfter) {
+                if (segment.contains(dependency)) // Others already finished or are not part of this event
+                    dependencies.add(fork(dependency, t, pool, segment, futures, visiting));
+            }
+        Runnable task = () -> executeAction(action, t);
+        if (dependencies.isEmpty())
+            future = CompletableFuture.runAsync(task, pool);
+        else
+            future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0])).thenRunAsync(task, pool);
+        visiting.remove(action);
+        futures.put(action, future);
+        return future;
+    }
+
+    /**
+     * Sets the {@link #executor} to {@link VirtualThreads#executor()}, so that {@link #executeAsync(Object)}
+     * runs the actions in a new virtual thread on each call. <br>
+     * Does nothing if virtual threads are not supported (Java 20 or lower). <br>
+     *
+     * @return this event for chaining.
+     */
+    public Event<T> useVirtualThreads() {
+        if (VirtualThreads.isSupported())
+            executor = VirtualThreads.executor();
+        return this;
+    }
+
+    /**
+     * Same as {@link #executeAsync(Object, Executor)} but uses this events' {@link #executor}.
+     */
+    public CompletableFuture<Void> executeAsync(T t) {
+        return executeAsync(t, executor);
+    }
+
+    /**
+     * Executes all the {@link #actions} for this event via the provided executor, thus the current thread does not
+     * have to wait for them to finish. <br>
+     * The actions are run one after another in a single task, exactly like {@link #execute(Object)} would do, thus
+     * {@link Action#isSkipNextActions} and remove conditions work the same way and exceptions are passed over to {@link Action#onException}. <br>
+     * If {@link Action#onException} throws an exception itself, the returned future completes exceptionally with it. <br>
+     *
+     * @param t        optional object to pass over to the action, so that it has more information about the occured event.
+     * @param executor executor that runs the actions.
+     * @return future that completes once all actions have been run.
+     */
+    public CompletableFuture<Void> executeAsync(T t, Executor executor) {
+        return CompletableFuture.runAsync(() -> execute(t), executor);
+    }
+
+    /**
+     * Executes the {@link #actions} via the {@link #coalescer}, thus the provided value might replace a pending one,
+     * or get executed later. Same as {@link #execute(Object)} if coalescing is not initialised. <br>
+     * See {@link #initCoalescing(long, TimeUnit, boolean, boolean, long)} for details. <br>
+     *
+     * @param t optional object to pass over to the action, so that it has more information about the occured event.
+     * @return this event for chaining.
+     */
+    public Event<T> executeCoalesced(T t) {
+        Coalescer<T> coalescer = this.coalescer;
+        if (coalescer == null) return execute(t);
+        coalescer.execute(t);
+        return this;
+    }
+
+    /**
+     * Executes the {@link #actions} at most once per window, with the latest value passed over to {@link #executeCoalesced(Object)}
+     * during that window. <br>
+     * See {@link #initCoalescing(long, TimeUnit, boolean, boolean, long)} for details. <br>
+     */
+    public Event<T> initCoalescing(long window, TimeUnit unit) {
+        return initCoalescing(window, unit, false, true, window);
+    }
+
+    /**
+     * Initialises the {@link #coalescer}, which debounces and coalesces the values passed over to {@link #executeCoalesced(Object)}. <br>
+     * Replaces the previous coalescer, if already initialised, and drops its pending value. <br>
+     * Usage: <br>
+     * <pre>
+     * event.initCoalescing(100, TimeUnit.MILLISECONDS, false, true, 0); // Debounce: execute once there were no values for 100ms
+     * event.initCoalescing(100, TimeUnit.MILLISECONDS, true, true, 100); // Throttle: execute at most every 100ms
+     * </pre>
+     *
+     * @param wait       See {@link Coalescer#waitMillis}.
+     * @param unit       the unit of wait and maxWait.
+     * @param isLeading  See {@link Coalescer#isLeading}.
+     * @param isTrailing See {@link Coalescer#isTrailing}.
+     * @param maxWait    See {@link Coalescer#maxWaitMillis}.
+     * @return this event for chaining.
+     */
+    public synchronized Event<T> initCoalescing(long wait, TimeUnit unit, boolean isLeading, boolean isTrailing, long maxWait) {
+        if (coalescer != null) coalescer.cancel();
+        coalescer = new Coalescer<>(this, wait, unit, isLeading, isTrailing, maxWait);
+        return this;
+    }
+
+    /**
+     * Adds the provided value to the {@link #queue}, whose consumer thread then executes the {@link #actions} with it.
+     * Same as {@link #execute(Object)} if queued execution is not initialised. <br>
+     * See {@link EventQueue#publish(Object)} for details. <br>
+     *
+     * @param t optional object to pass over to the action, so that it has more information about the occured event.
+     * @return true if the value was queued (or executed), false if it was dropped due to the {@link EventQueue#overflowPolicy}.
+     */
+    public boolean executeQueued(T t) {
+        EventQueue<T> queue = this.queue;
+        if (queue == null) {
+            execute(t);
+            return true;
+        }
+        return queue.publish(t);
+    }
+
+    /**
+     * Initialises the {@link #queue}, a bounded queue with its own consumer thread,
+     * used by {@link #executeQueued(Object)}. <br>
+     * Replaces the previous queue, if already initialised, after its pending values were executed. <br>
+     *
+     * @param capacity       See {@link EventQueue#capacity}.
+     * @param overflowPolicy See {@link EventQueue#overflowPolicy}.
+     * @return this event for chaining.
+     */
+    public synchronized Event<T> initQueue(int capacity, EventQueue.OverflowPolicy overflowPolicy) {
+        EventQueue<T> previous = queue;
+        queue = new EventQueue<>(this, capacity, overflowPolicy);
+        if (previous != null) {
+            try {
+                previous.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Same as {@link #initReplay(int)} with a size of 1, thus newly added actions receive the last value. <br>
+     */
+    public Event<T> initSticky() {
+        return initReplay(1);
+    }
+
+    /**
+     * Initialises the {@link #replay} cache, which keeps the last values this event was executed with. <br>
+     * Once an action gets added, it gets executed directly, in the current thread, for each cached value from oldest to newest,
+     * thus actions added late do not miss the current state. <br>
+     * Remove conditions, one time actions and {@link Action#throttle} apply like for a regular execution,
+     * {@link Action#isSkipNextActions} has no effect on replays. <br>
+     * An action added while the event gets executed might receive that value twice: via the replay and via the execution. <br>
+     * Replaces the previous cache, if already initialised, which drops its values. <br>
+     *
+     * @param size See {@link ReplayCache#size}.
+     * @return this event for chaining.
+     */
+    public synchronized Event<T> initReplay(int size) {
+        replay = new ReplayCache<>(size);
+        return this;
+    }
+
+    /**
+     * Initialises the {@link #journal}, which appends each value this event gets executed with
+     * to memory-mapped files in the provided directory. <br>
+     * Existing values are not replayed automatically, use {@link EventJournal#replay(long)} once the actions were added. <br>
+     * Replaces the previous journal, if already initialised. It gets closed before the new one is opened,
+     * since both could use the same directory. Thus this event has no journal afterwards if opening fails. <br>
+     * See {@link EventJournal} for details. <br>
+     *
+     * @param directory See {@link EventJournal#directory}.
+     * @param codec     See {@link EventJournal#codec}.
+     * @return this event for chaining.
+     * @throws IOException if the journal could not be opened.
+     */
+    public synchronized Event<T> initJournal(Path directory, EventJournal.Codec<T> codec) throws IOException {
+        if (journal != null) journal.close(); // Appends to it get forwarded to the new journal, once opened
+        journal = new EventJournal<>(this, directory, codec);
         return this;
     }
 
@@ -122,6 +752,33 @@ public class Event<T> {
         }, false, null);
     }
 
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code. <br>
+     * See {@link #addBatchAction(BetterConsumer, Consumer)} for details. <br>
+     */
+    public Action<T> addBatchAction(BetterConsumer<List<T>> onBatch) {
+        return addBatchAction(onBatch, ex -> {
+            throw new RuntimeException(ex);
+        });
+    }
+
+    /**
+     * Creates and adds a new action to the {@link #actions} list, that receives all values of
+     * {@link #executeAll(Collection)} in a single call. <br>
+     * {@link #execute(Object)} passes over a list with only one value. <br>
+     *
+     * @param onBatch     See {@link Action#onBatch}.
+     * @param onException See {@link Action#onException}.
+     */
+    public Action<T> addBatchAction(BetterConsumer<List<T>> onBatch, Consumer<Exception> onException) {
+        Action<T> action = new Action<>(this, (a, value) -> {
+            onBatch.accept(Collections.singletonList(value));
+        }, onException, false, null);
+        action.onBatch = onBatch;
+        return addAction(action);
+    }
+
     /**
      * Convenience method that throws {@link RuntimeException}
      * when something goes wrong inside the provided event code.
@@ -199,24 +856,135 @@ public class Event<T> {
     }
 
     /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code. <br>
+     * See {@link #addWeakAction(Object, BetterBiConsumer, Consumer)} for details. <br>
+     */
+    public <O> WeakAction<O, T> addWeakAction(O owner, BetterBiConsumer<O, T> onEvent) {
+        return addWeakAction(owner, onEvent, ex -> {
+            throw new RuntimeException(ex);
+        });
+    }
+
+    /**
+     * Creates and adds a new action to the {@link #actions} list, that only holds a weak reference to the provided owner. <br>
+     * Once the owner was garbage collected, the action gets added to the {@link #actionsToRemove} queue
+     * and is removed the next time this event gets executed or cleaned, without checking any remove condition. <br>
+     * The provided code must not reference the owner itself, only via its first parameter,
+     * otherwise the owner can never be garbage collected. <br>
+     * Usage: <br>
+     * <pre>
+     * event.addWeakAction(this, (owner, value) -> {
+     *     owner.update(value);
+     * }, Exception::printStackTrace);
+     * </pre>
+     *
+     * @param owner       object that should not be kept alive by this event.
+     * @param onEvent     See {@link WeakAction#onOwnerEvent}.
+     * @param onException See {@link Action#onException}.
+     */
+    public <O> WeakAction<O, T> addWeakAction(O owner, BetterBiConsumer<O, T> onEvent, Consumer<Exception> onException) {
+        WeakAction<O, T> action = new WeakAction<>(this, Objects.requireNonNull(owner), collectedOwners, onEvent, onException);
+        addAction(action);
+        return action;
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code. <br>
+     * See {@link #addAction(int, BetterBiConsumer, Consumer)} for details. <br>
+     */
+    public Action<T> addAction(int priority, BetterConsumer<T> onEvent) {
+        return addAction(priority, (action, value) -> {
+            onEvent.accept(value);
+        }, ex -> {
+            throw new RuntimeException(ex);
+        });
+    }
+
+    /**
+     * Creates and adds a new action to the {@link #actions} list, before all actions with a lower priority
+     * and after all actions with a higher or the same priority. <br>
+     * Actions added without priority have priority 0. <br>
+     * Useful for actions that use {@link Action#isSkipNextActions}, since they must be executed before the actions they skip. <br>
      * See {@link #addAction(BetterBiConsumer, Consumer)} for details. <br>
+     *
+     * @param priority See {@link Action#priority}.
+     */
+    public Action<T> addAction(int priority, BetterBiConsumer<Action<T>, T> onEvent, Consumer<Exception> onException) {
+        Action<T> action = new Action<>(this, onEvent, onException, false, null);
+        action.priority = priority;
+        return addAction(action);
+    }
+
+    /**
+     * See {@link #addAction(BetterBiConsumer, Consumer)} for details. <br>
+     * The action gets inserted according to its {@link Action#priority}. <br>
      */
     public Action<T> addAction(Action<T> action) {
-        actions.add(action);
-        if (cleanerRunnable != null)
-            synchronized (map) {
-                WrappedRunnable wrappedRunnable = map.get(secondsBetweenChecks);
-                if (wrappedRunnable == null) {
-                    wrappedRunnable = new WrappedRunnable(secondsBetweenChecks);
-                    map.put(secondsBetweenChecks, wrappedRunnable);
-                }
-                wrappedRunnable.events.add(this);
-            }
+        actionList.addSorted(action);
+        if (isPushRemoval) markActionAsRemovableIfNeeded(action); // Otherwise only checked once its state changes
+        registerAtCleaner();
+        replayTo(action);
         return action;
     }
 
     /**
-     * Returns true if this action can be removed and adds it to the {@link #actionsToRemove} list. <br>
+     * Adds all provided actions to the {@link #actions} list at once,
+     * which is faster than adding them one by one. <br>
+     * See {@link #addAction(BetterBiConsumer, Consumer)} for details. <br>
+     *
+     * @return this event for chaining.
+     */
+    public Event<T> addActions(Collection<Action<T>> actions) {
+        actionList.addAllSorted(actions);
+        if (isPushRemoval) {
+            for (Action<T> action : actions) {
+                markActionAsRemovableIfNeeded(action);
+            }
+        }
+        registerAtCleaner();
+        if (replay != null) {
+            for (Action<T> action : actions) {
+                replayTo(action);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Directly removes all provided actions from the {@link #actions} list at once. <br>
+     * In contrast to {@link #markActionAsRemovable(Action)} this happens immediately. <br>
+     *
+     * @return this event for chaining.
+     */
+    public Event<T> removeActions(Collection<Action<T>> actions) {
+        this.actions.removeAll(actions);
+        return this;
+    }
+
+    /**
+     * Makes sure that the cleaner of this event is scheduled at the {@link #cleanerWheel}, if a cleaner was initialised.
+     */
+    void registerAtCleaner() {
+        WrappedRunnable cleanerTask = this.cleanerTask;
+        if (cleanerTask != null) cleanerTask.schedule();
+    }
+
+    /**
+     * Replaces the current cleaner task (if any) with a new one, that runs the {@link #cleanerRunnable} periodically.
+     */
+    private synchronized void startCleaner(long interval, TimeUnit unit) {
+        this.millisBetweenChecks = unit.toMillis(interval);
+        this.secondsBetweenChecks = (int) Math.min(Integer.MAX_VALUE, unit.toSeconds(interval));
+        if (cleanerTask != null) cleanerTask.cancel();
+        cleanerTask = new WrappedRunnable(this, millisBetweenChecks);
+        cleanerTask.schedule();
+    }
+
+    /**
+     * Returns true if this action can be removed and adds it to the {@link #actionsToRemove} queue. <br>
+     * Also sets {@link Action#isRemovable} in that case. <br>
      */
     public boolean markActionAsRemovableIfNeeded(Action<T> action) {
         boolean removable = false;
@@ -224,11 +992,13 @@ public class Event<T> {
             if (action.removeCondition != null) { // this has priority
                 if (action.removeCondition.test(action.object)) {
                     removable = true;
+                    action.isRemovable = true;
                     actionsToRemove.add(action);
                 }
             } else if (defaultActionRemoveCondition != null) {
                 if (defaultActionRemoveCondition.test(action.object)) {
                     removable = true;
+                    action.isRemovable = true;
                     actionsToRemove.add(action);
                 }
             }
@@ -236,6 +1006,7 @@ public class Event<T> {
             if (onConditionException == null) throw new RuntimeException(e);
             else onConditionException.accept(e);
             removable = true;
+            action.isRemovable = true;
             actionsToRemove.add(action);
         }
         return removable;
@@ -252,19 +1023,78 @@ public class Event<T> {
 
         actionsToRemove.add(action); // To make sure it gets removed by the cleaner thread
         action.removeCondition = obj -> true; // To make sure it gets removed before being executed the next time
+        action.isRemovable = true; // Same as above, if push removal is enabled
 
         return this;
     }
 
+    /**
+     * Removes all actions inside the {@link #actionsToRemove} queue from the {@link #actions} list,
+     * with a single sweep over the list, no matter how many actions are pending. <br>
+     */
     public void removeActionsToRemove() {
+        markCollectedOwnersActionsAsRemovable();
+        if (actionsToRemove.isEmpty()) return;
+        Set<Action<T>> pending = drainActionsToRemove();
+        if (!pending.isEmpty())
+            removePending(pending);
+    }
 
-        if (!actionsToRemove.isEmpty()) {
-            for (Action<T> action : actionsToRemove) {
-                actions.remove(action);
-            }
-            actionsToRemove.clear();
+    /**
+     * Removes the provided actions with a single sweep over the {@link #actions} list.
+     */
+    void removePending(Set<Action<T>> pending) {
+        actions.removeIf(pending::contains);
+    }
+
+    /**
+     * Runs the provided code for each action of this event.
+     */
+    void forEachAction(Consumer<Action<T>> code) {
+        actions.forEach(code);
+    }
+
+    /**
+     * Returns the amount of actions of this event.
+     */
+    int actionCount() {
+        return actions.size();
+    }
+
+    /**
+     * Removes all actions from the {@link #actions} list that match the provided filter,
+     * together with the actions pending in {@link #actionsToRemove}, in a single sweep. <br>
+     *
+     * @return this event for chaining.
+     */
+    public Event<T> removeIf(Predicate<Action<T>> filter) {
+        Set<Action<T>> pending = drainActionsToRemove();
+        if (pending.isEmpty())
+            actions.removeIf(filter);
+        else
+            actions.removeIf(action -> pending.contains(action) || filter.test(action));
+        return this;
+    }
+
+    /**
+     * Adds the {@link WeakAction}s whose owner was garbage collected to the {@link #actionsToRemove} queue. O(1) if there are none.
+     */
+    @SuppressWarnings("unchecked")
+    private void markCollectedOwnersActionsAsRemovable() {
+        Reference<?> reference;
+        while ((reference = collectedOwners.poll()) != null) {
+            markActionAsRemovable(((WeakAction.OwnerReference<?, T>) reference).action);
         }
+    }
 
+    private Set<Action<T>> drainActionsToRemove() {
+        markCollectedOwnersActionsAsRemovable();
+        Set<Action<T>> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+        Action<T> action;
+        while ((action = removalQueue.poll()) != null) {
+            pending.add(action);
+        }
+        return pending;
     }
 
     /**
@@ -280,39 +1110,43 @@ public class Event<T> {
     }
 
     /**
-     * Similar to {@link #initSimpleCleaner(int)} but checks the {@link #actions} via {@link #markActionAsRemovableIfNeeded(Action)}.
+     * See {@link #initCleaner(long, TimeUnit, Predicate, Consumer)} for details.
      *
-     * @param secondsBetweenChecks         the amount of seconds between each check.
+     * @param secondsBetweenChecks the amount of seconds between each check.
+     */
+    public Event<T> initCleaner(int secondsBetweenChecks, Predicate<Object> defaultActionRemoveCondition, Consumer<Exception> onConditionException) {
+        return initCleaner(secondsBetweenChecks, TimeUnit.SECONDS, defaultActionRemoveCondition, onConditionException);
+    }
+
+    /**
+     * Similar to {@link #initSimpleCleaner(long, TimeUnit)} but checks the {@link #actions} via {@link #markActionAsRemovableIfNeeded(Action)}.
+     * The check is skipped if {@link #isPushRemoval} is enabled, since the actions are checked when their state changes then.
+     * Replaces the previous cleaner, if already initialised.
+     *
+     * @param interval                     the time between each check, supports millisecond precision. 0 means once per second.
+     * @param unit                         the unit of the interval.
      * @param defaultActionRemoveCondition when true, removes that action from the list.
      * @param onConditionException         gets executed when something went wrong during condition checking.
      * @return this event for chaining.
      */
-    public Event<T> initCleaner(int secondsBetweenChecks, Predicate<Object> defaultActionRemoveCondition, Consumer<Exception> onConditionException) {
-        this.secondsBetweenChecks = secondsBetweenChecks;
+    public Event<T> initCleaner(long interval, TimeUnit unit, Predicate<Object> defaultActionRemoveCondition, Consumer<Exception> onConditionException) {
         this.defaultActionRemoveCondition = defaultActionRemoveCondition;
         this.onConditionException = onConditionException;
-        synchronized (map) {
-            WrappedRunnable wrappedRunnable = map.get(secondsBetweenChecks);
-            if (wrappedRunnable == null) {
-                wrappedRunnable = new WrappedRunnable(secondsBetweenChecks);
-                map.put(secondsBetweenChecks, wrappedRunnable);
-            }
-            this.cleanerRunnable = () -> {
-                try {
-                    for (Action<T> action : actions) {
-                        try {
-                            markActionAsRemovableIfNeeded(action);
-                        } catch (Exception e) {
-                            onConditionException.accept(e);
-                        }
+        this.cleanerRunnable = () -> {
+            try {
+                if (!isPushRemoval) forEachAction(action -> {
+                    try {
+                        markActionAsRemovableIfNeeded(action);
+                    } catch (Exception e) {
+                        onConditionException.accept(e);
                     }
-                    removeActionsToRemove();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            };
-            wrappedRunnable.events.add(this);
-        }
+                });
+                removeActionsToRemove();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+        startCleaner(interval, unit);
         return this;
     }
 
@@ -325,32 +1159,34 @@ public class Event<T> {
     }
 
     /**
-     * Simple thread that removes actions from this event periodically if they exist inside the {@link #actionsToRemove} list. <br>
-     * It won't check the actions via the {@link Action#removeCondition} to save performance. <br>
-     * Does nothing if already initialised. <br>
-     * The initialised thread throws {@link RuntimeException} if something went wrong. <br>
+     * See {@link #initSimpleCleaner(long, TimeUnit)} for details.
      *
      * @param secondsBetweenChecks the amount of seconds between each check.
+     */
+    public Event<T> initSimpleCleaner(int secondsBetweenChecks) {
+        return initSimpleCleaner(secondsBetweenChecks, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Simple cleaner that removes actions from this event periodically if they exist inside the {@link #actionsToRemove} queue. <br>
+     * It won't check the actions via the {@link Action#removeCondition} to save performance. <br>
+     * Replaces the previous cleaner, if already initialised. <br>
+     * The cleaner is run by the {@link #cleanerWheel} thread and throws {@link RuntimeException} if something went wrong. <br>
+     *
+     * @param interval the time between each check, supports millisecond precision. 0 means once per second.
+     * @param unit     the unit of the interval.
      * @return this event for chaining.
      * @see #removeActionsToRemove()
      */
-    public Event<T> initSimpleCleaner(int secondsBetweenChecks) {
-        this.secondsBetweenChecks = secondsBetweenChecks;
-        synchronized (map) {
-            WrappedRunnable wrappedRunnable = map.get(secondsBetweenChecks);
-            if (wrappedRunnable == null) {
-                wrappedRunnable = new WrappedRunnable(secondsBetweenChecks);
-                map.put(secondsBetweenChecks, wrappedRunnable);
+    public Event<T> initSimpleCleaner(long interval, TimeUnit unit) {
+        this.cleanerRunnable = () -> {
+            try {
+                removeActionsToRemove();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
             }
-            this.cleanerRunnable = () -> {
-                try {
-                    removeActionsToRemove();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            };
-            wrappedRunnable.events.add(this);
-        }
+        };
+        startCleaner(interval, unit);
         return this;
     }
 }
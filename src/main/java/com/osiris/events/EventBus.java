@@ -0,0 +1,127 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches values by their runtime class, to the actions subscribed to that class, its superclasses or its interfaces. <br>
+ * Each subscribed type has its own {@link Event}, see {@link #eventOf(Class)}. <br>
+ * The events matching a runtime class are resolved once and cached via {@link ClassValue},
+ * thus posting a value is a single cached array lookup plus the execution of the matching events. <br>
+ * The cache is replaced once a new type gets subscribed to. Adding or removing actions of already subscribed types
+ * does not affect the cache. <br>
+ * Usage: <br>
+ * <pre>
+ * EventBus bus = new EventBus();
+ * bus.subscribe(CharSequence.class, value -> System.out.println("Text: "+value));
+ * bus.subscribe(String.class, value -> System.out.println("String: "+value));
+ * bus.post("Hello"); // Prints "String: Hello" and then "Text: Hello"
+ * </pre>
+ */
+public class EventBus {
+    /**
+     * Event of each subscribed type.
+     */
+    private final ConcurrentHashMap<Class<?>, Event<?>> events = new ConcurrentHashMap<>();
+    private volatile ClassValue<Event<Object>[]> cache = newCache();
+
+    private ClassValue<Event<Object>[]> newCache() {
+        return new ClassValue<Event<Object>[]>() {
+            @Override
+            protected Event<Object>[] computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Returns the events of all subscribed types the provided type can be assigned to.
+     * The type itself first, then its superclasses, then its interfaces and {@link Object} last, from specific to general.
+     */
+    @SuppressWarnings("unchecked")
+    private Event<Object>[] resolve(Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(c);
+        }
+        Deque<Class<?>> toVisit = new ArrayDeque<>(hierarchy);
+        while (!toVisit.isEmpty()) {
+            for (Class<?> anInterface : toVisit.poll().getInterfaces()) {
+                if (hierarchy.add(anInterface)) toVisit.add(anInterface);
+            }
+        }
+        hierarchy.add(Object.class);
+        List<Event<Object>> resolved = new ArrayList<>();
+        for (Class<?> c : hierarchy) {
+            Event<?> event = events.get(c);
+            if (event != null) resolved.add((Event<Object>) event);
+        }
+        return resolved.toArray(newArray(resolved.size()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<Object>[] newArray(int size) {
+        return (Event<Object>[]) new Event<?>[size];
+    }
+
+    /**
+     * Returns the event of the provided type and creates it first if needed. <br>
+     * Its actions receive all posted values that can be assigned to the provided type. <br>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Event<T> eventOf(Class<T> type) {
+        Event<?> event = events.get(type);
+        if (event != null) return (Event<T>) event;
+        synchronized (events) {
+            event = events.get(type);
+            if (event == null) {
+                event = new Event<T>();
+                events.put(type, event);
+                cache = newCache(); // After adding the event, so that the new cache can't contain outdated values
+            }
+        }
+        return (Event<T>) event;
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code. <br>
+     * See {@link #subscribe(Class, BetterBiConsumer, Consumer)} for details. <br>
+     */
+    public <T> Action<T> subscribe(Class<T> type, BetterConsumer<T> onEvent) {
+        return eventOf(type).addAction(onEvent);
+    }
+
+    /**
+     * Creates and adds a new action to the event of the provided type, see {@link #eventOf(Class)}. <br>
+     * To unsubscribe, remove the action via {@link Action#remove()}. <br>
+     * See {@link Event#addAction(BetterBiConsumer, Consumer)} for details. <br>
+     */
+    public <T> Action<T> subscribe(Class<T> type, BetterBiConsumer<Action<T>, T> onEvent, Consumer<Exception> onException) {
+        return eventOf(type).addAction(onEvent, onException);
+    }
+
+    /**
+     * Executes the events of all subscribed types the runtime class of the provided value can be assigned to,
+     * the most specific type first (the class itself, then its superclasses, then its interfaces and {@link Object} last). <br>
+     * {@link Action#isSkipNextActions} only skips the remaining actions of the same type. <br>
+     *
+     * @param value not null.
+     * @return this bus for chaining.
+     */
+    public EventBus post(Object value) {
+        for (Event<Object> event : cache.get(value.getClass())) {
+            event.execute(value);
+        }
+        return this;
+    }
+}
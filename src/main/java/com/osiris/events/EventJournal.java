@@ -0,0 +1,380 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Durable, append-only log of the values an {@link Event} was executed with, see {@link Event#initJournal(Path, Codec)}. <br>
+ * Values are serialized via the {@link #codec} and appended to segment files in the {@link #directory}, which are memory-mapped,
+ * thus appending a value is a memory copy without any system call, except when a new segment gets created. <br>
+ * The operating system writes the mapped memory to disk, thus values survive a crash of the JVM, but not necessarily a crash
+ * of the operating system, unless {@link #flush()} was called. <br>
+ * Each record consists of: length of the whole record (int), sequence (long), timestamp in milliseconds (long) and the serialized value. <br>
+ * A sparse in-memory index (every {@link #INDEX_INTERVAL}th record and the first record of each segment) is rebuilt when opening the journal,
+ * so that {@link #replay(long)} and {@link #replayFromTime(long)} only scan a few records before reaching the requested one. <br>
+ * Usage: <br>
+ * <pre>
+ * Event&lt;String&gt; onMessage = new Event&lt;String&gt;().initJournal(Paths.get("journal"), EventJournal.Codec.UTF_8);
+ * onMessage.addAction(msg -> state.apply(msg));
+ * onMessage.journal.replay(0); // Rebuilds the state after a restart
+ * onMessage.execute("Hello"); // Gets appended to the journal
+ * </pre>
+ */
+public class EventJournal<T> {
+    /**
+     * Default size of a segment file in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    /**
+     * Amount of records between two index entries.
+     */
+    public static final int INDEX_INTERVAL = 64;
+    /**
+     * Size of the length, sequence and timestamp of a record in bytes.
+     */
+    static final int HEADER_SIZE = 4 + 8 + 8;
+    private static final String SUFFIX = ".journal";
+    public final Event<T> event;
+    public final Path directory;
+    public final Codec<T> codec;
+    /**
+     * Size of a segment file in bytes. Records bigger than this get their own, bigger segment.
+     */
+    public final int segmentSize;
+    /**
+     * Gets executed when a value could not be appended, because the {@link #codec} threw an exception,
+     * or a new segment could not be created. The event gets executed anyway. <br>
+     */
+    public volatile Consumer<Exception> onException = Exception::printStackTrace;
+    private final List<Segment> segments = new ArrayList<>();
+    private final List<IndexEntry> index = new ArrayList<>();
+    /**
+     * True for threads that are currently replaying, whose executions must not be appended again.
+     */
+    private final ThreadLocal<Boolean> isReplaying = ThreadLocal.withInitial(() -> false);
+    private long nextSequence;
+    private long lastTimestamp;
+    private boolean isClosed;
+
+    /**
+     * Opens the journal with the {@link #DEFAULT_SEGMENT_SIZE}.
+     *
+     * @see #EventJournal(Event, Path, Codec, int)
+     */
+    public EventJournal(Event<T> event, Path directory, Codec<T> codec) throws IOException {
+        this(event, directory, codec, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the journal in the provided directory, creates it if needed and rebuilds the index from the existing segments. <br>
+     * Appending continues after the last valid record. <br>
+     *
+     * @param event       its executions get appended and replays are executed via its actions.
+     * @param directory   contains the segment files.
+     * @param codec       See {@link #codec}.
+     * @param segmentSize See {@link #segmentSize}.
+     * @throws IOException if a segment could not be read, or the segments do not form a continuous sequence.
+     */
+    public EventJournal(Event<T> event, Path directory, Codec<T> codec, int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE)
+            throw new IllegalArgumentException("Segment size must be bigger than " + HEADER_SIZE + ", but was " + segmentSize);
+        this.event = event;
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        files.sort(null); // Names are the zero padded first sequence
+        for (Path file : files) {
+            openSegment(file);
+        }
+    }
+
+    /**
+     * Maps the provided segment and indexes its records.
+     *
+     * @throws IOException if the segment does not continue the sequence of the previous one,
+     *                     for example because a segment is missing or a record in the previous one is corrupt.
+     *                     No file gets modified in that case, so that they can be inspected or repaired.
+     */
+    private void openSegment(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        long firstSequence = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        if (!segments.isEmpty() && firstSequence != nextSequence)
+            throw new IOException("Gap in journal " + directory + ": segment " + name + " starts at sequence " + firstSequence
+                    + ", but the previous segment ends before sequence " + nextSequence + ".");
+        nextSequence = firstSequence;
+        Segment segment;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            segment = new Segment(raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length()));
+        }
+        segments.add(segment);
+        ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (true) {
+            int length = readLength(buffer, position);
+            if (length == 0 || buffer.getLong(position + 4) != nextSequence) break;
+            long timestamp = buffer.getLong(position + 12);
+            if (position == 0 || nextSequence % INDEX_INTERVAL == 0)
+                index.add(new IndexEntry(nextSequence, timestamp, segments.size() - 1, position));
+            lastTimestamp = Math.max(lastTimestamp, timestamp);
+            nextSequence++;
+            position += length;
+        }
+        segment.position = position;
+    }
+
+    /**
+     * Returns the length of the record at the provided position, or 0 if there is no complete record.
+     */
+    private static int readLength(ByteBuffer buffer, int position) {
+        if (buffer.limit() - position < HEADER_SIZE) return 0;
+        int length = buffer.getInt(position);
+        if (length < HEADER_SIZE || length > buffer.limit() - position) return 0;
+        return length;
+    }
+
+    /**
+     * Serializes the provided value via the {@link #codec} and appends it. <br>
+     * Does nothing if the current thread is replaying this journal. <br>
+     * Called by the event for each executed value, thus there is no need to call this directly. <br>
+     * Failures are passed over to {@link #onException}. If this journal was closed,
+     * the value gets appended to the current {@link Event#journal} of the event instead, if there is one. <br>
+     *
+     * @return the sequence of the appended value, or -1 if nothing was appended.
+     */
+    public long append(T t) {
+        if (isReplaying.get()) return -1;
+        byte[] bytes;
+        try {
+            bytes = codec.encode(t);
+        } catch (Exception e) {
+            onException.accept(e);
+            return -1;
+        }
+        int length = HEADER_SIZE + bytes.length;
+        synchronized (this) {
+            if (!isClosed) {
+                Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+                if (segment == null || segment.buffer.limit() - segment.position < length) {
+                    try {
+                        segment = newSegment(length);
+                    } catch (IOException e) {
+                        onException.accept(e);
+                        return -1;
+                    }
+                }
+                long sequence = nextSequence++;
+                long timestamp = Math.max(lastTimestamp, System.currentTimeMillis()); // Never decreases, so that the index stays sorted
+                lastTimestamp = timestamp;
+                int position = segment.position;
+                ByteBuffer buffer = segment.buffer;
+                buffer.putLong(position + 4, sequence);
+                buffer.putLong(position + 12, timestamp);
+                for (int i = 0; i < bytes.length; i++) {
+                    buffer.put(position + HEADER_SIZE + i, bytes[i]);
+                }
+                buffer.putInt(position, length); // Last, so that an incomplete record is never read as complete
+                if (position == 0 || sequence % INDEX_INTERVAL == 0)
+                    index.add(new IndexEntry(sequence, timestamp, segments.size() - 1, position));
+                segment.position = position + length;
+                return sequence;
+            }
+        }
+        // Closed, but the caller still had a reference, for example while being replaced via Event#initJournal
+        EventJournal<T> current;
+        synchronized (event) { // Waits until a replacing journal was opened
+            current = event.journal;
+        }
+        return current != null && current != this ? current.append(t) : -1;
+    }
+
+    private Segment newSegment(int minSize) throws IOException {
+        Path file = directory.resolve(String.format("%020d", nextSequence) + SUFFIX);
+        Segment segment;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(0); // Never map old contents under new sequences
+            segment = new Segment(raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, minSize)));
+        }
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Executes the actions of the {@link #event} for each journaled value, starting at the provided sequence, in order. <br>
+     * These executions are not appended to the journal again. Values appended during the replay, by other threads, are not replayed. <br>
+     *
+     * @param fromSequence first sequence to replay, 0 to replay everything.
+     * @return the amount of replayed values.
+     */
+    public long replay(long fromSequence) {
+        return replay(fromSequence, Long.MIN_VALUE);
+    }
+
+    /**
+     * Same as {@link #replay(long)}, but starts at the first value that was appended at or after the provided time.
+     *
+     * @param fromTimestamp time in milliseconds, like {@link System#currentTimeMillis()}.
+     */
+    public long replayFromTime(long fromTimestamp) {
+        return replay(Long.MIN_VALUE, fromTimestamp);
+    }
+
+    private long replay(long fromSequence, long fromTimestamp) {
+        Segment[] segments;
+        int startSegment = 0, startPosition = 0;
+        long endSequence;
+        synchronized (this) {
+            segments = this.segments.toArray(new Segment[0]);
+            endSequence = nextSequence;
+            int low = 0, high = index.size(); // Binary search for the first entry after the requested record
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                IndexEntry entry = index.get(mid);
+                if (entry.sequence > fromSequence && entry.timestamp >= fromTimestamp) high = mid;
+                else low = mid + 1;
+            }
+            if (low > 0) {
+                IndexEntry entry = index.get(low - 1);
+                startSegment = entry.segment;
+                startPosition = entry.position;
+            }
+        }
+        long count = 0;
+        isReplaying.set(true);
+        try {
+            for (int i = startSegment; i < segments.length; i++) {
+                ByteBuffer buffer = segments[i].buffer.duplicate();
+                int position = i == startSegment ? startPosition : 0;
+                int length;
+                while ((length = readLength(buffer, position)) != 0) {
+                    long sequence = buffer.getLong(position + 4);
+                    if (sequence >= endSequence) return count;
+                    if (sequence >= fromSequence && buffer.getLong(position + 12) >= fromTimestamp) {
+                        byte[] bytes = new byte[length - HEADER_SIZE];
+                        buffer.position(position + HEADER_SIZE);
+                        buffer.get(bytes);
+                        T t;
+                        try {
+                            t = codec.decode(bytes);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                        event.execute(t);
+                        count++;
+                    }
+                    position += length;
+                }
+            }
+        } finally {
+            isReplaying.set(false);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sequence the next appended value will get, which is also the amount of values in this journal.
+     */
+    public synchronized long nextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Forces the operating system to write all appended values to disk. <br>
+     * Not needed for values to survive a crash of the JVM.
+     */
+    public synchronized void flush() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    /**
+     * Flushes and closes this journal and removes it from its event, if it is the current {@link Event#journal}. <br>
+     * Values are not appended to this journal anymore afterwards. <br>
+     * The mapped memory gets released once this journal was garbage collected.
+     */
+    public void close() {
+        synchronized (event) { // Same lock as Event#initJournal
+            if (event.journal == this) event.journal = null;
+        }
+        synchronized (this) {
+            if (isClosed) return;
+            flush();
+            isClosed = true;
+        }
+    }
+
+    /**
+     * Converts values to bytes and back.
+     */
+    public interface Codec<T> {
+        /**
+         * Encodes strings as UTF-8.
+         */
+        Codec<String> UTF_8 = new Codec<String>() {
+            @Override
+            public byte[] encode(String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+
+        byte[] encode(T value) throws Exception;
+
+        T decode(byte[] bytes) throws Exception;
+    }
+
+    private static class Segment {
+        final MappedByteBuffer buffer;
+        /**
+         * Position of the next record.
+         */
+        int position;
+
+        Segment(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    private static class IndexEntry {
+        final long sequence;
+        final long timestamp;
+        final int segment;
+        final int position;
+
+        IndexEntry(long sequence, long timestamp, int segment, int position) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.segment = segment;
+            this.position = position;
+        }
+    }
+}
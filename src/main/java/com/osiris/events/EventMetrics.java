@@ -0,0 +1,147 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of an {@link Event}, only recorded if enabled via {@link Event#enableMetrics()}. <br>
+ * All counters are lock-free, thus recording does not slow down executions on other threads. <br>
+ * Use {@link Event#getMetricsSnapshot()} to read all of them at once, including the metrics of each action. <br>
+ */
+public class EventMetrics {
+    /**
+     * {@link System#nanoTime()} of when the metrics were enabled.
+     */
+    public final long startNanos = System.nanoTime();
+    /**
+     * Amount of {@link Event#execute(Object)} calls (and its variants).
+     */
+    public final LongAdder executeCount = new LongAdder();
+    /**
+     * Amount of exceptions thrown by actions.
+     */
+    public final LongAdder exceptionCount = new LongAdder();
+    /**
+     * Duration of each {@link Event#execute(Object)} call (and its variants), including all actions.
+     */
+    public final LatencyHistogram executeLatency = new LatencyHistogram();
+    /**
+     * Amount of actions removed by the cleaner.
+     */
+    public final LongAdder cleanerRemovals = new LongAdder();
+    /**
+     * Duration of each cleaner run.
+     */
+    public final LatencyHistogram cleanerLatency = new LatencyHistogram();
+
+    /**
+     * Returns a copy of the current state, including the metrics of the provided actions.
+     */
+    public Snapshot snapshot(Collection<? extends Action<?>> actions) {
+        List<ActionSnapshot> actionSnapshots = new ArrayList<>(actions.size());
+        for (Action<?> action : actions) {
+            ActionMetrics metrics = action.metrics;
+            actionSnapshots.add(new ActionSnapshot(action, action.executionCount.sum(),
+                    metrics == null ? 0 : metrics.exceptionCount.sum(),
+                    (metrics == null ? new LatencyHistogram() : metrics.latency).snapshot()));
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long executeCount = this.executeCount.sum();
+        return new Snapshot(executeCount,
+                elapsedNanos <= 0 ? 0 : executeCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+                exceptionCount.sum(), executeLatency.snapshot(),
+                cleanerRemovals.sum(), cleanerLatency.snapshot(), Collections.unmodifiableList(actionSnapshots));
+    }
+
+    /**
+     * Metrics of a single {@link Action}, see {@link Action#metrics}.
+     */
+    public static class ActionMetrics {
+        /**
+         * Amount of exceptions thrown by the action.
+         */
+        public final LongAdder exceptionCount = new LongAdder();
+        /**
+         * Duration of each successful execution of the action.
+         */
+        public final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    /**
+     * Immutable state of an {@link EventMetrics} at a certain point in time.
+     */
+    public static final class Snapshot {
+        public final long executeCount;
+        /**
+         * Average executions per second, since the metrics were enabled.
+         */
+        public final double executeRate;
+        public final long exceptionCount;
+        public final LatencyHistogram.Snapshot executeLatency;
+        public final long cleanerRemovals;
+        /**
+         * The count of this histogram is the amount of cleaner runs.
+         */
+        public final LatencyHistogram.Snapshot cleanerLatency;
+        public final List<ActionSnapshot> actions;
+
+        Snapshot(long executeCount, double executeRate, long exceptionCount, LatencyHistogram.Snapshot executeLatency,
+                 long cleanerRemovals, LatencyHistogram.Snapshot cleanerLatency, List<ActionSnapshot> actions) {
+            this.executeCount = executeCount;
+            this.executeRate = executeRate;
+            this.exceptionCount = exceptionCount;
+            this.executeLatency = executeLatency;
+            this.cleanerRemovals = cleanerRemovals;
+            this.cleanerLatency = cleanerLatency;
+            this.actions = actions;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("executeCount=").append(executeCount).append(", executeRate=").append(String.format("%.2f", executeRate))
+                    .append("/s, exceptionCount=").append(exceptionCount)
+                    .append("\nexecuteLatency: ").append(executeLatency)
+                    .append("\ncleanerRemovals=").append(cleanerRemovals)
+                    .append("\ncleanerLatency: ").append(cleanerLatency);
+            for (int i = 0; i < actions.size(); i++) {
+                sb.append("\naction#").append(i).append(": ").append(actions.get(i));
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Immutable state of the metrics of a single {@link Action} at a certain point in time.
+     */
+    public static final class ActionSnapshot {
+        public final Action<?> action;
+        public final long executionCount;
+        public final long exceptionCount;
+        public final LatencyHistogram.Snapshot latency;
+
+        ActionSnapshot(Action<?> action, long executionCount, long exceptionCount, LatencyHistogram.Snapshot latency) {
+            this.action = action;
+            this.executionCount = executionCount;
+            this.exceptionCount = exceptionCount;
+            this.latency = latency;
+        }
+
+        @Override
+        public String toString() {
+            return "executionCount=" + executionCount + ", exceptionCount=" + exceptionCount + ", latency: " + latency;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue in front of an {@link Event}, whose values get executed one after another by a single consumer thread. <br>
+ * Unlike {@link Event#executeAsync(Object)}, the amount of pending values is limited to the {@link #capacity}
+ * (plus the single value that is currently being executed), thus a slow action can not fill up the memory. What happens once the queue is full is defined by the {@link #overflowPolicy}. <br>
+ * Values are executed in the order they were published. <br>
+ * Usage: <br>
+ * <pre>
+ * Event&lt;String&gt; onMessage = new Event&lt;String&gt;().initQueue(1024, EventQueue.OverflowPolicy.DROP_OLDEST);
+ * onMessage.executeQueued("Hello");
+ * </pre>
+ */
+public class EventQueue<T> {
+    /**
+     * Stored instead of null values, since {@link ArrayBlockingQueue} does not allow them.
+     */
+    private static final Object NULL = new Object();
+    /**
+     * Added by {@link #close()} after all pending values, to wake up and stop the consumer thread.
+     */
+    private static final Object STOP = new Object();
+    public final Event<T> event;
+    public final int capacity;
+    public final OverflowPolicy overflowPolicy;
+    /**
+     * Amount of values that were dropped, due to {@link OverflowPolicy#DROP_NEWEST} or {@link OverflowPolicy#DROP_OLDEST},
+     * or because the producer was interrupted while waiting due to {@link OverflowPolicy#BLOCK}.
+     */
+    public final LongAdder droppedCount = new LongAdder();
+    /**
+     * Amount of values that were rejected due to {@link OverflowPolicy#FAIL}.
+     */
+    public final LongAdder rejectedCount = new LongAdder();
+    /**
+     * Gets executed when {@link Event#execute(Object)} throws an exception inside the consumer thread. <br>
+     */
+    public volatile Consumer<Exception> onException = Exception::printStackTrace;
+    private final ArrayBlockingQueue<Object> queue;
+    private final Thread consumer;
+    /**
+     * Publishing holds the read lock and closing the write lock,
+     * thus no value can be added after the consumer thread was told to stop.
+     */
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+    /**
+     * Set if {@link #close()} was called by the consumer thread itself, which can not wait for space to add {@link #STOP}.
+     */
+    private volatile boolean stopWhenEmpty;
+
+    /**
+     * Creates a queue and starts its consumer thread.
+     *
+     * @param event          its actions get executed for each published value.
+     * @param capacity       max amount of pending values, must be at least 1.
+     * @param overflowPolicy what happens once the queue is full.
+     */
+    public EventQueue(Event<T> event, int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be at least 1, but was " + capacity);
+        this.event = event;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.consumer = new Thread(this::consume);
+        consumer.setName("Easy-Java-Events-Queue-Consumer-" + Integer.toHexString(this.hashCode()));
+        consumer.start();
+    }
+
+    /**
+     * Adds the provided value to the queue, or handles it via the {@link #overflowPolicy} if the queue is full. <br>
+     *
+     * @param t optional object to pass over to the actions.
+     * @return true if the value was added, false if it was dropped.
+     * @throws RejectedExecutionException if the queue is full and the policy is {@link OverflowPolicy#FAIL}.
+     * @throws IllegalStateException      if this queue was closed.
+     */
+    public boolean publish(T t) {
+        ReentrantReadWriteLock.ReadLock lock = closeLock.readLock();
+        lock.lock();
+        try {
+            if (!running) throw new IllegalStateException("Queue was closed.");
+            return offer(t == null ? NULL : t);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean offer(Object value) {
+        if (queue.offer(value)) return true;
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(value);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCount.increment();
+                    return false;
+                }
+            case DROP_OLDEST:
+                do {
+                    if (queue.poll() != null) droppedCount.increment();
+                } while (!queue.offer(value));
+                return true;
+            case FAIL:
+                rejectedCount.increment();
+                throw new RejectedExecutionException("Queue is full, capacity: " + capacity);
+            default: // DROP_NEWEST
+                droppedCount.increment();
+                return false;
+        }
+    }
+
+    /**
+     * Returns the amount of pending values.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the amount of values that can be published, before the {@link #overflowPolicy} comes into play.
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Stops the consumer thread once it executed the currently pending values and waits for it to finish. <br>
+     * Publishing is not possible anymore afterwards. <br>
+     * If called by an action that runs in the consumer thread, returns directly without waiting,
+     * and the consumer thread stops once it executed the pending values.
+     */
+    public void close() throws InterruptedException {
+        ReentrantReadWriteLock.WriteLock lock = closeLock.writeLock();
+        boolean wasRunning;
+        lock.lock(); // Waits for running publish calls
+        try {
+            wasRunning = running;
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        if (Thread.currentThread() == consumer) {
+            stopWhenEmpty = true;
+            return;
+        }
+        if (wasRunning) queue.put(STOP); // Nothing can be published anymore, thus it is the last value
+        consumer.join();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void consume() {
+        while (true) {
+            Object value;
+            try {
+                value = queue.take(); // One at a time, so that at most one value is outside of the queue
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (value == STOP) return;
+            try {
+                event.execute(value == NULL ? null : (T) value);
+            } catch (Exception e) {
+                onException.accept(e);
+            }
+            if (stopWhenEmpty && queue.isEmpty()) return;
+        }
+    }
+
+    /**
+     * Defines what happens when a value gets published, while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The producer waits until there is space.
+         */
+        BLOCK,
+        /**
+         * The published value gets dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest pending value gets dropped, to make space for the published value.
+         */
+        DROP_OLDEST,
+        /**
+         * A {@link RejectedExecutionException} is thrown and {@link EventQueue#rejectedCount} increased.
+         */
+        FAIL
+    }
+}
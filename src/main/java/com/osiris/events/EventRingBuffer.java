@@ -0,0 +1,295 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free, bounded queue in front of an {@link Event}, that hands payloads over to consumer threads without allocating. <br>
+ * All payload objects get created once at the start and are reused afterwards, thus the payload must be mutable
+ * and the {@link Event#actions} must not keep a reference to it after being executed. <br>
+ * Multiple producers can publish at the same time, each claims its slot via CAS. <br>
+ * Each consumer thread drains all published slots at once and runs {@link Event#execute(Object)} for every payload it is responsible for.
+ * With multiple consumers, payload number n is executed by consumer n % consumerCount, thus the order is only kept per consumer. <br>
+ * The consumer threads are not daemon threads, so that published payloads are not lost when the main thread ends,
+ * thus {@link #close()} must be called once the ring buffer is not needed anymore, otherwise they keep the JVM alive. <br>
+ * Usage: <br>
+ * <pre>
+ * EventRingBuffer&lt;MutableValue&gt; ring = new EventRingBuffer&lt;&gt;(event, 1024, MutableValue::new);
+ * ring.publish((payload, value) -> payload.value = value, 10);
+ * </pre>
+ */
+public class EventRingBuffer<T> {
+    public final Event<T> event;
+    public final int capacity;
+    public final WaitStrategy waitStrategy;
+    /**
+     * Gets executed when {@link Event#execute(Object)} throws an exception inside a consumer thread. <br>
+     * Exceptions thrown by this consumer itself get printed, {@link Error}s thrown by the actions stop the consumer thread
+     * and make {@link #next()} fail. <br>
+     */
+    public volatile Consumer<Exception> onException = Exception::printStackTrace;
+    private final int mask;
+    private final int indexShift;
+    private final Object[] slots;
+    /**
+     * Contains the round (sequence / capacity) of the last published sequence for each slot.
+     */
+    private final AtomicIntegerArray published;
+    /**
+     * Last claimed sequence.
+     */
+    private final AtomicLong cursor = new AtomicLong(-1);
+    /**
+     * Last sequence each consumer has passed.
+     */
+    private final AtomicLong[] consumerSequences;
+    private final Thread[] consumers;
+    private volatile long cachedMinConsumerSequence = -1;
+    private volatile boolean running = true;
+    /**
+     * Error that stopped a consumer thread, or null. Its sequence does not move anymore then, thus producers would wait forever.
+     */
+    private volatile Throwable consumerFailure;
+
+    /**
+     * Creates a ring buffer with one consumer thread, that uses {@link WaitStrategy#PARK}, thus an idle ring buffer uses nearly no CPU.
+     *
+     * @see #EventRingBuffer(Event, int, Supplier, int, WaitStrategy)
+     */
+    public EventRingBuffer(Event<T> event, int capacity, Supplier<T> payloadFactory) {
+        this(event, capacity, payloadFactory, 1, WaitStrategy.PARK);
+    }
+
+    /**
+     * Creates a ring buffer and starts its consumer threads.
+     *
+     * @param event          its actions get executed for each published payload.
+     * @param capacity       amount of slots, must be a power of two.
+     * @param payloadFactory used to create the payload object of each slot once.
+     * @param consumerCount  amount of consumer threads.
+     * @param waitStrategy   used by consumers while waiting for payloads and by producers while the buffer is full.
+     */
+    public EventRingBuffer(Event<T> event, int capacity, Supplier<T> payloadFactory, int consumerCount, WaitStrategy waitStrategy) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two, but was " + capacity);
+        if (consumerCount < 1)
+            throw new IllegalArgumentException("Consumer count must be at least 1, but was " + consumerCount);
+        this.event = event;
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+        this.slots = new Object[capacity];
+        this.published = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = payloadFactory.get();
+            published.set(i, -1);
+        }
+        this.consumerSequences = new AtomicLong[consumerCount];
+        this.consumers = new Thread[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            consumerSequences[i] = new AtomicLong(-1);
+            int index = i;
+            consumers[i] = new Thread(() -> consume(index));
+            consumers[i].setName("Easy-Java-Events-RingBuffer-Consumer#" + i + "-" + Integer.toHexString(this.hashCode()));
+            consumers[i].start();
+        }
+    }
+
+    /**
+     * Claims the next slot and returns its sequence. Waits via the {@link #waitStrategy} if the buffer is full. <br>
+     * The slot must be filled via {@link #get(long)} and then published via {@link #publish(long)}. <br>
+     *
+     * @throws IllegalStateException if this ring buffer was closed, or a consumer thread was stopped by an {@link Error}.
+     */
+    public long next() {
+        int counter = 0;
+        while (true) {
+            if (!running) throw new IllegalStateException("Ring buffer was closed.");
+            Throwable failure = consumerFailure;
+            if (failure != null) throw new IllegalStateException("Consumer thread was stopped by an error.", failure);
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - capacity;
+            if (wrapPoint > cachedMinConsumerSequence) {
+                long min = minConsumerSequence();
+                cachedMinConsumerSequence = min;
+                if (wrapPoint > min) { // Full, wait for the consumers
+                    waitStrategy.idle(counter);
+                    if (counter < 1000) counter++;
+                    continue;
+                }
+            }
+            if (cursor.compareAndSet(current, next)) return next;
+        }
+    }
+
+    /**
+     * Returns the payload of the provided sequence.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long sequence) {
+        return (T) slots[(int) sequence & mask];
+    }
+
+    /**
+     * Makes the slot of the provided sequence available to the consumers.
+     */
+    public void publish(long sequence) {
+        published.set((int) sequence & mask, (int) (sequence >>> indexShift));
+    }
+
+    /**
+     * Claims the next slot, fills it via the provided translator and publishes it. <br>
+     * Does not allocate, if the translator does not capture any variables. <br>
+     * The slot also gets published if the translator throws an exception. <br>
+     *
+     * @param translator fills the payload (first parameter) with the provided argument (second parameter).
+     * @param argument   passed over to the translator.
+     */
+    public <A> void publish(BetterBiConsumer<T, A> translator, A argument) {
+        long sequence = next();
+        try {
+            translator.accept(get(sequence), argument);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            publish(sequence);
+        }
+    }
+
+    /**
+     * Returns the amount of claimed slots, that were not yet passed by all consumers.
+     */
+    public long size() {
+        return cursor.get() - minConsumerSequence();
+    }
+
+    /**
+     * Stops the consumer threads once they processed all claimed payloads and waits for them to finish. <br>
+     * Slots that were claimed via {@link #next()} but not yet published are waited for, thus each claimed slot must be published. <br>
+     * Publishing is not possible anymore afterwards. Producers should be stopped before closing,
+     * since a payload published at the same time as this method is called can still be rejected or dropped.
+     */
+    public void close() throws InterruptedException {
+        running = false;
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+    }
+
+    private long minConsumerSequence() {
+        long min = Long.MAX_VALUE;
+        for (AtomicLong sequence : consumerSequences) {
+            min = Math.min(min, sequence.get());
+        }
+        return min;
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    /**
+     * Returns the highest sequence, up to which all slots were published.
+     */
+    private long highestPublished(long from, long to) {
+        for (long sequence = from; sequence <= to; sequence++) {
+            if (!isPublished(sequence)) return sequence - 1;
+        }
+        return to;
+    }
+
+    private void consume(int index) {
+        try {
+            consumeUntilClosed(index);
+        } catch (Throwable e) {
+            consumerFailure = e;
+            throw e;
+        }
+    }
+
+    private void consumeUntilClosed(int index) {
+        AtomicLong consumerSequence = consumerSequences[index];
+        int consumerCount = consumers.length;
+        long nextSequence = consumerSequence.get() + 1;
+        int counter = 0;
+        while (true) {
+            boolean stopping = !running; // Read before the cursor, so that nothing published before close() gets lost
+            long claimed = cursor.get();
+            long high = highestPublished(nextSequence, claimed);
+            if (high < nextSequence) {
+                if (stopping && high == claimed) return; // Otherwise waits for claimed slots to be published
+                waitStrategy.idle(counter);
+                if (counter < 1000) counter++;
+                continue;
+            }
+            counter = 0;
+            for (long sequence = nextSequence; sequence <= high; sequence++) {
+                if (consumerCount == 1 || sequence % consumerCount == index) {
+                    try {
+                        event.execute(get(sequence));
+                    } catch (Exception e) {
+                        try {
+                            onException.accept(e);
+                        } catch (Throwable e2) { // Must not stop the consumer
+                            e2.printStackTrace();
+                        }
+                    }
+                }
+            }
+            consumerSequence.lazySet(high);
+            nextSequence = high + 1;
+        }
+    }
+
+    /**
+     * Defines what a thread does, while it is waiting for a payload to be published, or a slot to be freed.
+     */
+    public enum WaitStrategy {
+        /**
+         * Lowest latency, but occupies a whole CPU core.
+         */
+        BUSY_SPIN {
+            @Override
+            void idle(int counter) {
+            }
+        },
+        /**
+         * Low latency, lets other threads run on the same core.
+         */
+        YIELD {
+            @Override
+            void idle(int counter) {
+                Thread.yield();
+            }
+        },
+        /**
+         * Higher latency but uses nearly no CPU while idle. Spins and yields at first, then parks for 50 microseconds at a time.
+         */
+        PARK {
+            @Override
+            void idle(int counter) {
+                if (counter < 100) return;
+                if (counter < 200) Thread.yield();
+                else LockSupport.parkNanos(50_000);
+            }
+        };
+
+        /**
+         * @param counter amount of times this was called in a row.
+         */
+        abstract void idle(int counter);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.List;
+
+/**
+ * Management interface of {@link EventsMonitor}, which shows the live events that have a cleaner and all {@link SuperLoop}s
+ * via JMX, for example in JConsole or VisualVM. <br>
+ * See {@link EventsMonitor#register()}.
+ */
+public interface EventsMXBean {
+
+    /**
+     * Returns the amount of live events that have a cleaner.
+     */
+    int getEventCount();
+
+    /**
+     * Returns the sum of the actions of all live events that have a cleaner.
+     */
+    long getActionCount();
+
+    /**
+     * Returns all live events that have a cleaner, the ones with the most actions first.
+     */
+    List<EventInfo> getEvents();
+
+    /**
+     * Returns all {@link SuperLoop}s.
+     */
+    List<SuperLoopInfo> getSuperLoops();
+
+    /**
+     * Runs the cleaner of all live events now.
+     *
+     * @return the amount of actions that were removed.
+     */
+    int forceClean();
+
+    /**
+     * Runs the cleaner of the event with the provided name (see {@link EventInfo#getName()}) now.
+     *
+     * @return the amount of actions that were removed, or -1 if there is no such event.
+     */
+    int forceClean(String eventName);
+
+    /**
+     * State of an {@link Event} at a certain point in time.
+     */
+    class EventInfo {
+        private final String name;
+        private final int actionCount;
+        private final int pendingRemovalCount;
+        private final int secondsBetweenChecks;
+        private final long millisBetweenChecks;
+        private final long lastCleanerDurationNanos;
+
+        public EventInfo(String name, int actionCount, int pendingRemovalCount, int secondsBetweenChecks,
+                         long millisBetweenChecks, long lastCleanerDurationNanos) {
+            this.name = name;
+            this.actionCount = actionCount;
+            this.pendingRemovalCount = pendingRemovalCount;
+            this.secondsBetweenChecks = secondsBetweenChecks;
+            this.millisBetweenChecks = millisBetweenChecks;
+            this.lastCleanerDurationNanos = lastCleanerDurationNanos;
+        }
+
+        /**
+         * Class name and identity hash code of the event.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public int getActionCount() {
+            return actionCount;
+        }
+
+        /**
+         * Size of the {@link Event#actionsToRemove} queue.
+         */
+        public int getPendingRemovalCount() {
+            return pendingRemovalCount;
+        }
+
+        public int getSecondsBetweenChecks() {
+            return secondsBetweenChecks;
+        }
+
+        public long getMillisBetweenChecks() {
+            return millisBetweenChecks;
+        }
+
+        /**
+         * Duration of the last cleaner run, or -1 if the cleaner did not run yet.
+         */
+        public long getLastCleanerDurationNanos() {
+            return lastCleanerDurationNanos;
+        }
+    }
+
+    /**
+     * State of a {@link SuperLoop} at a certain point in time.
+     */
+    class SuperLoopInfo {
+        private final String name;
+        private final int sleepIntervallMillis;
+        private final long tickCount;
+        private final long lastTickLatenessNanos;
+        private final long maxTickLatenessNanos;
+        private final List<LoopCodeInfo> loopCodes;
+
+        public SuperLoopInfo(String name, int sleepIntervallMillis, long tickCount, long lastTickLatenessNanos,
+                             long maxTickLatenessNanos, List<LoopCodeInfo> loopCodes) {
+            this.name = name;
+            this.sleepIntervallMillis = sleepIntervallMillis;
+            this.tickCount = tickCount;
+            this.lastTickLatenessNanos = lastTickLatenessNanos;
+            this.maxTickLatenessNanos = maxTickLatenessNanos;
+            this.loopCodes = loopCodes;
+        }
+
+        /**
+         * Name of the loops' thread.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public int getSleepIntervallMillis() {
+            return sleepIntervallMillis;
+        }
+
+        public long getTickCount() {
+            return tickCount;
+        }
+
+        public long getLastTickLatenessNanos() {
+            return lastTickLatenessNanos;
+        }
+
+        public long getMaxTickLatenessNanos() {
+            return maxTickLatenessNanos;
+        }
+
+        public List<LoopCodeInfo> getLoopCodes() {
+            return loopCodes;
+        }
+    }
+
+    /**
+     * State of a {@link LoopCode} at a certain point in time.
+     */
+    class LoopCodeInfo {
+        private final int interval;
+        private final int intervalLeft;
+        private final int runnableCount;
+
+        public LoopCodeInfo(int interval, int intervalLeft, int runnableCount) {
+            this.interval = interval;
+            this.intervalLeft = intervalLeft;
+            this.runnableCount = runnableCount;
+        }
+
+        public int getInterval() {
+            return interval;
+        }
+
+        public int getIntervalLeft() {
+            return intervalLeft;
+        }
+
+        public int getRunnableCount() {
+            return runnableCount;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shows the live events that have a cleaner and all {@link SuperLoop}s via JMX, see {@link EventsMXBean}. <br>
+ * Useful to find out which event keeps growing, for example when a heap dump contains lots of {@link Action}s. <br>
+ * Nothing is registered automatically. Usage: <br>
+ * <pre>
+ * EventsMonitor.register();
+ * </pre>
+ */
+public class EventsMonitor implements EventsMXBean {
+    /**
+     * Name the monitor gets registered with, via {@link #register()}.
+     */
+    public static final String OBJECT_NAME = "com.osiris.events:type=Events";
+
+    /**
+     * Registers a new monitor at the platform MBean server, if not already registered.
+     *
+     * @return the name of the registered monitor.
+     */
+    public static synchronized ObjectName register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) server.registerMBean(new EventsMonitor(), name);
+        return name;
+    }
+
+    /**
+     * Removes the monitor from the platform MBean server, if registered.
+     */
+    public static synchronized void unregister() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) server.unregisterMBean(name);
+    }
+
+    private static String nameOf(Event<?> event) {
+        return event.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(event));
+    }
+
+    @Override
+    public int getEventCount() {
+        int count = 0;
+        for (WrappedRunnable task : WrappedRunnable.tasks()) {
+            if (task.get() != null) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public long getActionCount() {
+        long count = 0;
+        for (WrappedRunnable task : WrappedRunnable.tasks()) {
+            Event<?> event = task.get();
+            if (event != null) count += event.actionCount();
+        }
+        return count;
+    }
+
+    @Override
+    public List<EventInfo> getEvents() {
+        List<EventInfo> events = new ArrayList<>();
+        for (WrappedRunnable task : WrappedRunnable.tasks()) {
+            Event<?> event = task.get();
+            if (event == null) continue;
+            events.add(new EventInfo(nameOf(event), event.actionCount(), event.actionsToRemove.size(),
+                    event.secondsBetweenChecks, event.millisBetweenChecks, task.lastRunNanos));
+        }
+        events.sort((a, b) -> Integer.compare(b.getActionCount(), a.getActionCount()));
+        return events;
+    }
+
+    @Override
+    public List<SuperLoopInfo> getSuperLoops() {
+        List<SuperLoopInfo> loops = new ArrayList<>();
+        for (SuperLoop loop : SuperLoop.all) {
+            List<LoopCodeInfo> loopCodes = new ArrayList<>();
+            synchronized (loop.list) {
+                for (LoopCode loopCode : loop.list) {
+                    loopCodes.add(new LoopCodeInfo(loopCode.interval, loopCode.intervalLeft, loopCode.runnables.size()));
+                }
+            }
+            loops.add(new SuperLoopInfo(loop.thread.getName(), loop.sleepIntervallMillis, loop.getTickCount(),
+                    loop.getLastTickLatenessNanos(), loop.getMaxTickLatenessNanos(), loopCodes));
+        }
+        return loops;
+    }
+
+    @Override
+    public int forceClean() {
+        int removed = 0;
+        for (WrappedRunnable task : WrappedRunnable.tasks()) {
+            removed += Math.max(0, task.clean());
+        }
+        return removed;
+    }
+
+    @Override
+    public int forceClean(String eventName) {
+        for (WrappedRunnable task : WrappedRunnable.tasks()) {
+            Event<?> event = task.get();
+            if (event != null && nameOf(event).equals(eventName)) return task.clean();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+/**
+ * Hooks for JDK Flight Recorder events, which are only available on Java 11 or higher. <br>
+ * This is the Java 8 version of this class, which does nothing. The multi-release jar contains
+ * a Java 11 version of this class, which gets used automatically on Java 11 or higher and emits the actual events. <br>
+ * Each begin method returns an object that must be passed over to the matching commit method,
+ * or null if nothing gets recorded. <br>
+ */
+final class FlightRecorder {
+
+    private FlightRecorder() {
+    }
+
+    /**
+     * Called before the actions of an event get executed.
+     */
+    static Object beginExecute() {
+        return null;
+    }
+
+    /**
+     * Called after the actions of an event were executed.
+     */
+    static void commitExecute(Object recording, Event<?> event, int actionCount) {
+    }
+
+    /**
+     * Called before a single action gets executed.
+     */
+    static Object beginAction() {
+        return null;
+    }
+
+    /**
+     * Called after a single action was executed.
+     */
+    static void commitAction(Object recording, Action<?> action) {
+    }
+
+    /**
+     * Called before the cleaner of an event runs.
+     */
+    static Object beginCleaner() {
+        return null;
+    }
+
+    /**
+     * Called after the cleaner of an event ran.
+     */
+    static void commitCleaner(Object recording, Event<?> event, int removedActions) {
+    }
+
+    /**
+     * Called before a {@link SuperLoop} runs a tick.
+     */
+    static Object beginTick() {
+        return null;
+    }
+
+    /**
+     * Called after a {@link SuperLoop} ran a tick.
+     */
+    static void commitTick(Object recording, SuperLoop loop, long ticks) {
+    }
+}
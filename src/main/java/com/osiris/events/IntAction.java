@@ -0,0 +1,36 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Action of an {@link IntEvent}, that receives the primitive value without boxing. <br>
+ * See {@link Action} for details.
+ */
+public class IntAction extends Action<Integer> {
+    /**
+     * Holds code. Gets executed by {@link IntEvent#execute(int)}. <br>
+     * {@link #onEvent} wraps this, so that the action can also be executed via {@link Event#execute(Object)}.
+     */
+    public final BetterIntConsumer onInt;
+
+    /**
+     * Creates an action.
+     *
+     * @param onInt       See {@link IntAction#onInt}.
+     * @param onException See {@link Action#onException}.
+     * @param isOneTime   See {@link Action#isOneTime}.
+     * @param object      See {@link Action#object}.
+     */
+    public IntAction(Event<Integer> event, BetterIntConsumer onInt, Consumer<Exception> onException, boolean isOneTime, Object object) {
+        super(event, (action, value) -> onInt.accept(value), onException, isOneTime, object);
+        this.onInt = onInt;
+    }
+}
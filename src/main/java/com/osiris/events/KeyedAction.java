@@ -0,0 +1,36 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Action of a {@link KeyedEvent}, that only gets executed for values with a matching key. <br>
+ * See {@link Action} for details.
+ */
+public class KeyedAction<K, T> extends Action<T> {
+    /**
+     * The key values must have, so that this action gets executed. See {@link KeyedEvent#keyExtractor}.
+     */
+    public final K key;
+
+    /**
+     * Creates an action.
+     *
+     * @param key         See {@link KeyedAction#key}.
+     * @param onEvent     See {@link Action#onEvent}.
+     * @param onException See {@link Action#onException}.
+     * @param isOneTime   See {@link Action#isOneTime}.
+     * @param object      See {@link Action#object}.
+     */
+    public KeyedAction(KeyedEvent<K, T> event, K key, BetterBiConsumer<Action<T>, T> onEvent, Consumer<Exception> onException, boolean isOneTime, Object object) {
+        super(event, onEvent, onException, isOneTime, object);
+        this.key = key;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Event that only executes the actions registered for the key of the value, instead of all actions. <br>
+ * The key of a value is determined via the {@link #keyExtractor} and the matching actions are found
+ * via a hash index, thus executing is O(matching actions), no matter how many other keys have actions. <br>
+ * Actions added via {@link #addKeyedAction(Object, BetterConsumer)} only receive values with their key,
+ * actions added via the regular methods (wildcard actions) receive all values. Keyed actions are executed before the wildcard actions. <br>
+ * Usage: <br>
+ * <pre>
+ * KeyedEvent&lt;Integer, Message&gt; onMessage = new KeyedEvent&lt;&gt;(msg -> msg.id);
+ * onMessage.addKeyedAction(10, msg -> System.out.println("Message for 10: "+msg));
+ * onMessage.addAction(msg -> System.out.println("Any message: "+msg));
+ * onMessage.execute(new Message(10));
+ * </pre>
+ */
+public class KeyedEvent<K, T> extends Event<T> {
+    /**
+     * Returns the key of a value. Values with a null key are only passed over to the wildcard actions.
+     */
+    public final Function<T, K> keyExtractor;
+    /**
+     * Actions for each key. Keys without actions are removed.
+     */
+    public final ConcurrentHashMap<K, ActionList<T>> actionsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new event.
+     *
+     * @param keyExtractor See {@link #keyExtractor}.
+     */
+    public KeyedEvent(Function<T, K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    private ActionList<T> keyedActions(T t) {
+        K key = keyExtractor.apply(t);
+        return key == null ? null : actionsByKey.get(key);
+    }
+
+    /**
+     * Executes the actions registered for the key of the provided value and then all wildcard {@link #actions}. <br>
+     * See {@link Event#execute(Object)} for details.
+     */
+    @Override
+    public KeyedEvent<K, T> execute(T t) {
+        long start = startNanos();
+        Object recording = FlightRecorder.beginExecute();
+        record(t);
+        int actionCount = 0;
+        boolean skipped = false;
+        ActionList<T> keyed = keyedActions(t);
+        if (keyed != null) {
+            ActionList.Snapshot<T> snapshot = keyed.snapshot();
+            actionCount += snapshot.size;
+            skipped = executeActions(snapshot, t);
+        }
+        if (!skipped) {
+            ActionList.Snapshot<T> snapshot = actionList.snapshot();
+            actionCount += snapshot.size;
+            executeActions(snapshot, t);
+        }
+        removeActionsToRemove();
+        executed(start, recording, actionCount);
+        return this;
+    }
+
+    /**
+     * Executes the actions for each provided value via {@link #execute(Object)}, since each value can have a different key.
+     */
+    @Override
+    public KeyedEvent<K, T> executeAll(Collection<T> values) {
+        for (T t : values) {
+            execute(t);
+        }
+        return this;
+    }
+
+    /**
+     * Executes the actions registered for the key of the provided value in the current thread
+     * and then all wildcard {@link #actions} in parallel. <br>
+     * See {@link Event#executeParallel(Object)} for details.
+     */
+    @Override
+    public KeyedEvent<K, T> executeParallel(T t) {
+        long start = startNanos();
+        Object recording = FlightRecorder.beginExecute();
+        record(t);
+        int actionCount = 0;
+        boolean skipped = false;
+        ActionList<T> keyed = keyedActions(t);
+        if (keyed != null) {
+            ActionList.Snapshot<T> snapshot = keyed.snapshot();
+            actionCount += snapshot.size;
+            skipped = executeActions(snapshot, t);
+        }
+        if (!skipped) {
+            ActionList.Snapshot<T> snapshot = actionList.snapshot();
+            actionCount += snapshot.size;
+            executeActionsParallel(snapshot, t);
+        }
+        removeActionsToRemove();
+        executed(start, recording, actionCount);
+        return this;
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code. <br>
+     * See {@link #addKeyedAction(Object, BetterBiConsumer, Consumer, boolean, Object)} for details. <br>
+     */
+    public KeyedAction<K, T> addKeyedAction(K key, BetterConsumer<T> onEvent) {
+        return addKeyedAction(key, (action, value) -> {
+            onEvent.accept(value);
+        }, ex -> {
+            throw new RuntimeException(ex);
+        }, false, null);
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code. <br>
+     * See {@link #addKeyedAction(Object, BetterBiConsumer, Consumer, boolean, Object)} for details. <br>
+     */
+    public KeyedAction<K, T> addOneTimeKeyedAction(K key, BetterConsumer<T> onEvent) {
+        return addKeyedAction(key, (action, value) -> {
+            onEvent.accept(value);
+        }, ex -> {
+            throw new RuntimeException(ex);
+        }, true, null);
+    }
+
+    /**
+     * See {@link #addKeyedAction(Object, BetterBiConsumer, Consumer, boolean, Object)} for details. <br>
+     */
+    public KeyedAction<K, T> addKeyedAction(K key, BetterBiConsumer<Action<T>, T> onEvent, Consumer<Exception> onException) {
+        return addKeyedAction(key, onEvent, onException, false, null);
+    }
+
+    /**
+     * Creates and adds a new action, that only gets executed for values with the provided key. <br>
+     * See {@link #addAction(BetterBiConsumer, Consumer)} for details. <br>
+     *
+     * @param key         See {@link KeyedAction#key}, must not be null.
+     * @param onEvent     See {@link Action#onEvent}.
+     * @param onException See {@link Action#onException}.
+     * @param isOneTime   See {@link Action#isOneTime}.
+     * @param object      See {@link Action#object}.
+     */
+    public KeyedAction<K, T> addKeyedAction(K key, BetterBiConsumer<Action<T>, T> onEvent, Consumer<Exception> onException, boolean isOneTime, Object object) {
+        KeyedAction<K, T> action = new KeyedAction<>(this, Objects.requireNonNull(key), onEvent, onException, isOneTime, object);
+        addAction(action);
+        return action;
+    }
+
+    /**
+     * Adds the provided action to the actions of its key if it is a {@link KeyedAction},
+     * otherwise to the wildcard {@link #actions}. <br>
+     * See {@link Event#addAction(Action)} for details. <br>
+     */
+    @Override
+    public Action<T> addAction(Action<T> action) {
+        if (!(action instanceof KeyedAction)) return super.addAction(action);
+        K key = keyOf(action);
+        actionsByKey.compute(key, (k, list) -> {
+            if (list == null) list = new ActionList<>();
+            list.addSorted(action);
+            return list;
+        });
+        registerAtCleaner();
+        replayTo(action);
+        return action;
+    }
+
+    @Override
+    public KeyedEvent<K, T> addActions(Collection<Action<T>> actions) {
+        List<Action<T>> wildcard = new ArrayList<>(actions.size());
+        for (Action<T> action : actions) {
+            if (action instanceof KeyedAction) addAction(action);
+            else wildcard.add(action);
+        }
+        super.addActions(wildcard);
+        return this;
+    }
+
+    @Override
+    public KeyedEvent<K, T> removeActions(Collection<Action<T>> actions) {
+        super.removeActions(actions);
+        Set<Action<T>> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(actions);
+        removeFromKeys(set);
+        return this;
+    }
+
+    @Override
+    public KeyedEvent<K, T> removeIf(Predicate<Action<T>> filter) {
+        removeActionsToRemove();
+        actions.removeIf(filter);
+        for (K key : actionsByKey.keySet()) {
+            removeFromKey(key, filter);
+        }
+        return this;
+    }
+
+    @Override
+    void removePending(Set<Action<T>> pending) {
+        super.removePending(pending);
+        removeFromKeys(pending);
+    }
+
+    /**
+     * Removes the provided keyed actions from the actions of their keys, with a single sweep per key.
+     */
+    private void removeFromKeys(Set<Action<T>> actions) {
+        Set<K> keys = new HashSet<>();
+        for (Action<T> action : actions) {
+            if (action instanceof KeyedAction) keys.add(keyOf(action));
+        }
+        for (K key : keys) {
+            removeFromKey(key, actions::contains);
+        }
+    }
+
+    private void removeFromKey(K key, Predicate<? super Action<T>> filter) {
+        actionsByKey.computeIfPresent(key, (k, list) -> {
+            list.removeIf(filter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * Keyed actions only receive values with their key.
+     */
+    @Override
+    boolean receives(Action<T> action, T t) {
+        return !(action instanceof KeyedAction) || keyOf(action).equals(keyExtractor.apply(t));
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyOf(Action<T> action) {
+        return ((KeyedAction<K, T>) action).key;
+    }
+
+    @Override
+    void forEachAction(Consumer<Action<T>> code) {
+        super.forEachAction(code);
+        for (ActionList<T> list : actionsByKey.values()) {
+            list.forEach(code);
+        }
+    }
+
+    @Override
+    int actionCount() {
+        int count = super.actionCount();
+        for (ActionList<T> list : actionsByKey.values()) {
+            count += list.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Action of an {@link LongEvent}, that receives the primitive value without boxing. <br>
+ * See {@link Action} for details.
+ */
+public class LongAction extends Action<Long> {
+    /**
+     * Holds code. Gets executed by {@link LongEvent#execute(long)}. <br>
+     * {@link #onEvent} wraps this, so that the action can also be executed via {@link Event#execute(Object)}.
+     */
+    public final BetterLongConsumer onLong;
+
+    /**
+     * Creates an action.
+     *
+     * @param onLong       See {@link LongAction#onLong}.
+     * @param onException See {@link Action#onException}.
+     * @param isOneTime   See {@link Action#isOneTime}.
+     * @param object      See {@link Action#object}.
+     */
+    public LongAction(Event<Long> event, BetterLongConsumer onLong, Consumer<Exception> onException, boolean isOneTime, Object object) {
+        super(event, (action, value) -> onLong.accept(value), onException, isOneTime, object);
+        this.onLong = onLong;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Event for primitive long values, that does not box the value and allocates nothing when executed. <br>
+ * Has the same features as {@link Event}, like one time actions, remove conditions and cleaners. <br>
+ * Actions added via {@link #addLongAction(BetterLongConsumer)} receive the primitive value,
+ * other actions receive the boxed value. <br>
+ */
+public class LongEvent extends Event<Long> {
+
+    /**
+     * Executes all the {@link #actions} for this event, like {@link #execute(Object)} but without boxing the value
+     * for {@link LongAction}s. <br>
+     *
+     * @param value value to pass over to the actions.
+     * @return this event for chaining.
+     */
+    public LongEvent execute(long value) {
+        long start = startNanos();
+        Object recording = FlightRecorder.beginExecute();
+        if (replay != null || journal != null) record(value); // Boxes only if replay or journaling is initialised
+        ActionList.Snapshot<Long> snapshot = actionList.snapshot();
+        Action<Long>[] array = snapshot.array;
+        for (int i = 0; i < snapshot.size; i++) {
+            Action<Long> action = array[i];
+            Object actionRecording = null;
+            try {
+                if (!isRemovable(action) && (action.throttle == null || !isThrottled(action, value))) { // Boxes only for actions with a throttle
+                    long actionStart = startNanos();
+                    actionRecording = FlightRecorder.beginAction();
+                    if (action instanceof LongAction) ((LongAction) action).onLong.accept(value);
+                    else action.onEvent.accept(action, value);
+                    executed(action, 1, actionStart, actionRecording);
+                    if (action.isSkipNextActions) break;
+                }
+            } catch (Exception e) {
+                failed(action, e, actionRecording);
+            }
+        }
+        removeActionsToRemove();
+        executed(start, recording, snapshot.size);
+        return this;
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code.
+     */
+    public LongAction addLongAction(BetterLongConsumer onEvent) {
+        return addLongAction(onEvent, ex -> {
+            throw new RuntimeException(ex);
+        }, false, null);
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided event code.
+     */
+    public LongAction addOneTimeLongAction(BetterLongConsumer onEvent) {
+        return addLongAction(onEvent, ex -> {
+            throw new RuntimeException(ex);
+        }, true, null);
+    }
+
+    /**
+     * See {@link #addLongAction(BetterLongConsumer, Consumer, boolean, Object)} for details. <br>
+     */
+    public LongAction addLongAction(BetterLongConsumer onEvent, Consumer<Exception> onException) {
+        return addLongAction(onEvent, onException, false, null);
+    }
+
+    /**
+     * See {@link #addLongAction(BetterLongConsumer, Consumer, boolean, Object)} for details. <br>
+     */
+    public LongAction addOneTimeLongAction(BetterLongConsumer onEvent, Consumer<Exception> onException) {
+        return addLongAction(onEvent, onException, true, null);
+    }
+
+    /**
+     * Creates and adds a new action to the {@link #actions} list, that receives the primitive value. <br>
+     * See {@link #addAction(BetterBiConsumer, Consumer)} for details. <br>
+     *
+     * @param onEvent     See {@link LongAction#onLong}.
+     * @param onException See {@link Action#onException}.
+     * @param isOneTime   See {@link Action#isOneTime}.
+     * @param object      See {@link Action#object}.
+     */
+    public LongAction addLongAction(BetterLongConsumer onEvent, Consumer<Exception> onException, boolean isOneTime, Object object) {
+        LongAction action = new LongAction(this, onEvent, onException, isOneTime, object);
+        addAction(action);
+        return action;
+    }
+}
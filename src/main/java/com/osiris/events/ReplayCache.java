@@ -0,0 +1,140 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring of the last {@link #size} values an {@link Event} was executed with,
+ * that get replayed to newly added actions, see {@link Event#initReplay(int)}. <br>
+ * Recording a value does not allocate, does not lock and never waits. Each slot is guarded by its own sequence (like a seqlock),
+ * which only moves forward: a writer claims its slot via a single CAS and gives up if a newer value was already written to it,
+ * if another writer is currently writing it, or if it loses the CAS. Thus a slot never goes back to an older value,
+ * and a value only gets dropped if the ring wrapped around while another writer was writing the same slot. <br>
+ * Reading skips slots that are currently being written, instead of waiting for them. <br>
+ */
+public class ReplayCache<T> {
+    /**
+     * Max amount of cached values.
+     */
+    public final int size;
+    private final AtomicReferenceArray<T> values;
+    /**
+     * Sequence of each slot: 2 * (sequence of the value + 1) once written, odd while being written, 0 if never written.
+     */
+    private final AtomicLongArray sequences;
+    /**
+     * Next sequence to claim.
+     */
+    private final AtomicLong cursor = new AtomicLong();
+    /**
+     * Values with a lower sequence were removed via {@link #clear()}.
+     */
+    private volatile long clearedBefore;
+
+    /**
+     * @param size See {@link #size}, must be at least 1.
+     */
+    public ReplayCache(int size) {
+        if (size < 1) throw new IllegalArgumentException("Size must be at least 1, but was " + size);
+        this.size = size;
+        this.values = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+    }
+
+    /**
+     * Adds the provided value and replaces the oldest one, if already full.
+     */
+    public void record(T t) {
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) (sequence % size);
+        long writing = 2 * sequence + 1;
+        if (!claim(slot, writing)) return; // Outdated, or the slot is busy
+        values.set(slot, t);
+        sequences.set(slot, writing + 1);
+    }
+
+    /**
+     * Marks the provided slot as being written with the provided odd sequence.
+     *
+     * @return false if the slot already has the same or a newer sequence, is being written (odd sequence),
+     * or was changed by another thread at the same time.
+     */
+    private boolean claim(int slot, long writing) {
+        long current = sequences.get(slot);
+        if (current >= writing || (current & 1) != 0) return false;
+        return sequences.compareAndSet(slot, current, writing);
+    }
+
+    /**
+     * Returns the cached values, from oldest to newest. <br>
+     * Values that are being written at the same time are not included.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> get() {
+        long min = 2 * clearedBefore + 2;
+        long[] found = new long[size];
+        Object[] foundValues = new Object[size];
+        int count = 0;
+        for (int slot = 0; slot < size; slot++) {
+            while (true) {
+                long sequence = sequences.get(slot);
+                if ((sequence & 1) != 0) break; // Being written, the value is not complete yet
+                T t = values.get(slot);
+                if (sequences.get(slot) != sequence) continue; // A newer value was written while reading, read it instead
+                if (sequence >= min) {
+                    found[count] = sequence;
+                    foundValues[count] = t;
+                    count++;
+                }
+                break;
+            }
+        }
+        // Sort by sequence, insertion sort is fine since slots are already nearly in order
+        for (int i = 1; i < count; i++) {
+            long sequence = found[i];
+            Object t = foundValues[i];
+            int j = i - 1;
+            for (; j >= 0 && found[j] > sequence; j--) {
+                found[j + 1] = found[j];
+                foundValues[j + 1] = foundValues[j];
+            }
+            found[j + 1] = sequence;
+            foundValues[j + 1] = t;
+        }
+        List<T> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add((T) foundValues[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Removes all cached values. Values that are recorded at the same time might be kept or dropped.
+     */
+    public void clear() {
+        clearedBefore = cursor.get();
+        for (int slot = 0; slot < size; slot++) {
+            while (true) {
+                long current = sequences.get(slot);
+                if ((current & 1) != 0) break; // Being written, older values are hidden by clearedBefore anyway
+                if (current >= 2 * clearedBefore + 2) break; // Recorded after clearing
+                if (sequences.compareAndSet(slot, current, current + 1)) { // Keeps writers out while releasing the value
+                    values.set(slot, null);
+                    sequences.set(slot, current);
+                    break;
+                }
+            }
+        }
+    }
+}
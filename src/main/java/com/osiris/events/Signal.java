@@ -0,0 +1,74 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Event without value, whose actions are plain runnables. <br>
+ * Has the same features as {@link Event}, like one time actions, remove conditions and cleaners
+ * and allocates nothing when executed. <br>
+ * Usage: <br>
+ * <pre>
+ * Signal onReload = new Signal();
+ * onReload.addAction(() -> System.out.println("Reloaded!"));
+ * onReload.execute();
+ * </pre>
+ */
+public class Signal extends Event<Void> {
+
+    /**
+     * Executes all the {@link #actions} for this signal. <br>
+     * See {@link #execute(Object)} for details. <br>
+     *
+     * @return this signal for chaining.
+     */
+    public Signal execute() {
+        execute(null);
+        return this;
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided code.
+     */
+    public Action<Void> addAction(BetterRunnable onEvent) {
+        return addAction(onEvent, ex -> {
+            throw new RuntimeException(ex);
+        });
+    }
+
+    /**
+     * Convenience method that throws {@link RuntimeException}
+     * when something goes wrong inside the provided code.
+     */
+    public Action<Void> addOneTimeAction(BetterRunnable onEvent) {
+        return addOneTimeAction(onEvent, ex -> {
+            throw new RuntimeException(ex);
+        });
+    }
+
+    /**
+     * See {@link #addAction(BetterBiConsumer, Consumer)} for details. <br>
+     */
+    public Action<Void> addAction(BetterRunnable onEvent, Consumer<Exception> onException) {
+        return addAction((action, value) -> {
+            onEvent.run();
+        }, onException, false, null);
+    }
+
+    /**
+     * See {@link #addOneTimeAction(BetterBiConsumer, Consumer)} for details. <br>
+     */
+    public Action<Void> addOneTimeAction(BetterRunnable onEvent, Consumer<Exception> onException) {
+        return addAction((action, value) -> {
+            onEvent.run();
+        }, onException, true, null);
+    }
+}
@@ -3,40 +3,169 @@ package com.osiris.events;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class SuperLoop {
+    /**
+     * All loops that were created, see {@link EventsMonitor}.
+     */
+    static final Set<SuperLoop> all = ConcurrentHashMap.newKeySet();
     public final int sleepIntervallMillis;
     public final Thread thread;
     public final List<LoopCode> list = new ArrayList<>();
+    /**
+     * Can be null. <br>
+     * If null, the runnables are run directly inside the loops' {@link #thread}, otherwise they are passed over to this executor. <br>
+     */
+    public volatile Executor executor;
+
+    /**
+     * What to do with ticks that were missed, because the runnables took longer than {@link #sleepIntervallMillis}. <br>
+     */
+    public volatile OverrunPolicy overrunPolicy;
+    private volatile long lastTickLatenessNanos;
+    private volatile long maxTickLatenessNanos;
+    private volatile long tickCount;
+    private volatile long missedTickCount;
+    private volatile boolean isStopped;
 
     public SuperLoop() {
         this(1000);
     }
 
     public SuperLoop(int sleepIntervallMillis) {
+        this(sleepIntervallMillis, OverrunPolicy.COALESCE);
+    }
+
+    /**
+     * Creates and starts a loop that ticks at a fixed rate. <br>
+     * Tick deadlines are calculated via {@link System#nanoTime()} from the start time,
+     * thus the time the runnables take does not delay the following ticks. <br>
+     *
+     * @param sleepIntervallMillis time between two ticks.
+     * @param overrunPolicy        see {@link #overrunPolicy}.
+     */
+    public SuperLoop(int sleepIntervallMillis, OverrunPolicy overrunPolicy) {
         this.sleepIntervallMillis = sleepIntervallMillis;
+        this.overrunPolicy = overrunPolicy;
         this.thread = new Thread(() -> {
             try {
-                while (true) {
-                    Thread.sleep(sleepIntervallMillis);
-                    synchronized (list) {
-                        for (LoopCode loopCode : list) {
-                            loopCode.intervalLeft--;
-                            if (loopCode.intervalLeft <= 0) {
-                                loopCode.intervalLeft = loopCode.interval;
-                                for (Runnable runnable : loopCode.runnables) {
-                                    runnable.run();
-                                }
-                            }
-                        }
+                long periodNanos = TimeUnit.MILLISECONDS.toNanos(sleepIntervallMillis);
+                long deadline = System.nanoTime() + periodNanos;
+                while (!isStopped) {
+                    long remaining;
+                    while ((remaining = deadline - System.nanoTime()) > 0) {
+                        Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+                    }
+                    long lateness = System.nanoTime() - deadline;
+                    long missedTicks = periodNanos == 0 ? 0 : lateness / periodNanos;
+                    lastTickLatenessNanos = lateness;
+                    if (lateness > maxTickLatenessNanos) maxTickLatenessNanos = lateness;
+                    switch (this.overrunPolicy) {
+                        case SKIP:
+                            missedTickCount += missedTicks;
+                            tick(1);
+                            deadline += (missedTicks + 1) * periodNanos;
+                            break;
+                        case COALESCE:
+                            missedTickCount += missedTicks;
+                            tick(missedTicks + 1);
+                            deadline += (missedTicks + 1) * periodNanos;
+                            break;
+                        case BURST:
+                            tick(1);
+                            deadline += periodNanos;
+                            break;
                     }
                 }
+            } catch (InterruptedException e) { // Stopped
+                Thread.currentThread().interrupt();
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
         });
         thread.setName(sleepIntervallMillis + "ms-" + this.getClass().getSimpleName() + "#" + Integer.toHexString(this.hashCode()));
         thread.start();
+        all.add(this);
+    }
+
+    /**
+     * Counts down the intervals of all {@link LoopCode}s by the provided amount of ticks
+     * and runs the due ones once.
+     */
+    private void tick(long ticks) {
+        Object recording = FlightRecorder.beginTick();
+        synchronized (list) {
+            for (LoopCode loopCode : list) {
+                loopCode.intervalLeft -= ticks;
+                if (loopCode.intervalLeft <= 0) {
+                    // Keeps the phase if multiple ticks were coalesced
+                    int interval = Math.max(1, loopCode.interval);
+                    loopCode.intervalLeft = interval - (-loopCode.intervalLeft) % interval;
+                    Executor executor = this.executor;
+                    for (Runnable runnable : loopCode.runnables) {
+                        if (executor == null) runnable.run();
+                        else executor.execute(runnable);
+                    }
+                }
+            }
+        }
+        tickCount++;
+        FlightRecorder.commitTick(recording, this, ticks);
+    }
+
+    /**
+     * Stops the {@link #thread} after the currently running tick. Runnables running inside the thread get interrupted. <br>
+     * A stopped loop can not be started again.
+     */
+    public void stop() {
+        isStopped = true;
+        all.remove(this);
+        thread.interrupt();
+    }
+
+    /**
+     * Returns how late (in nanoseconds) the last tick started, compared to its deadline.
+     */
+    public long getLastTickLatenessNanos() {
+        return lastTickLatenessNanos;
+    }
+
+    /**
+     * Returns the highest lateness (in nanoseconds) of all ticks so far.
+     */
+    public long getMaxTickLatenessNanos() {
+        return maxTickLatenessNanos;
+    }
+
+    /**
+     * Returns the amount of ticks that were run. Coalesced ticks count as one.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the amount of ticks that were missed because of overruns and thus not run on their own:
+     * dropped via {@link OverrunPolicy#SKIP} or merged into the next tick via {@link OverrunPolicy#COALESCE}.
+     * Always 0 for {@link OverrunPolicy#BURST}, since it runs them afterwards.
+     */
+    public long getMissedTickCount() {
+        return missedTickCount;
+    }
+
+    /**
+     * Sets the {@link #executor} to {@link VirtualThreads#executor()}, so that each runnable
+     * gets run in its own new virtual thread, instead of the loops' {@link #thread}. <br>
+     * Does nothing if virtual threads are not supported (Java 20 or lower). <br>
+     */
+    public SuperLoop useVirtualThreads() {
+        if (VirtualThreads.isSupported())
+            executor = VirtualThreads.executor();
+        return this;
     }
 
     public void add(int interval, Runnable runnable) {
@@ -95,4 +224,24 @@ public class SuperLoop {
             }
         }
     }
+
+    /**
+     * Defines what happens when ticks were missed, because the runnables took longer than the interval.
+     */
+    public enum OverrunPolicy {
+        /**
+         * Missed ticks are dropped. The intervals of the {@link LoopCode}s are only counted down by one,
+         * thus runnables get delayed by the missed ticks.
+         */
+        SKIP,
+        /**
+         * Missed ticks are merged into one tick. The intervals of the {@link LoopCode}s are counted down by all missed ticks,
+         * but due runnables only run once.
+         */
+        COALESCE,
+        /**
+         * Missed ticks are run directly after each other, until the loop caught up.
+         */
+        BURST
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, that limits how often an {@link Action} gets executed, see {@link Action#throttle(long, long, TimeUnit, int)}. <br>
+ * Implemented via the generic cell rate algorithm, thus the whole state is a single {@link AtomicLong}
+ * (the theoretical arrival time of the next permit) and acquiring a permit is a single CAS, without allocating. <br>
+ */
+public class Throttle {
+    /**
+     * Time in nanoseconds it takes to refill a single permit.
+     */
+    public final long emissionIntervalNanos;
+    /**
+     * Max amount of permits that can be acquired at once, after being idle for long enough.
+     */
+    public final int burst;
+    /**
+     * Amount of permits that were not granted.
+     */
+    public final AtomicLong throttledCount = new AtomicLong();
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permits amount of permits per period, must be at least 1.
+     * @param period  time in which the permits get refilled.
+     * @param unit    unit of the period.
+     * @param burst   See {@link #burst}, must be at least 1.
+     */
+    public Throttle(long permits, long period, TimeUnit unit, int burst) {
+        if (permits < 1) throw new IllegalArgumentException("Permits must be at least 1, but was " + permits);
+        if (burst < 1) throw new IllegalArgumentException("Burst must be at least 1, but was " + burst);
+        this.emissionIntervalNanos = Math.max(1, unit.toNanos(period) / permits);
+        this.burst = burst;
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - toleranceNanos); // Starts full
+    }
+
+    /**
+     * Returns true if a permit was available and takes it, otherwise false.
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = arrival - now > 0 ? arrival : now;
+            if (start - now > toleranceNanos) {
+                throttledCount.incrementAndGet();
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + emissionIntervalNanos)) return true;
+        }
+    }
+}
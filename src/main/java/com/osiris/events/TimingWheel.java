@@ -0,0 +1,229 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel with millisecond ticks, that runs scheduled tasks in a single thread. <br>
+ * Has {@link #LEVELS} levels with 64 buckets each. A bucket of level 0 covers 1ms, a bucket of level 1 covers 64ms,
+ * a bucket of level 2 covers 4096ms and so on. Tasks get put into the bucket of the lowest level that can hold their deadline
+ * and move down a level each time the wheel reaches their bucket, until they are due. <br>
+ * Scheduling and cancelling are O(1). The thread only wakes up when a bucket is actually due, since each level keeps
+ * a bitmask of its non-empty buckets, thus an idle wheel does not wake up at all. <br>
+ * Tasks should be short, since they block all other tasks of this wheel while running.
+ */
+class TimingWheel {
+    static final int LEVELS = 6;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    /**
+     * Deadlines further away than this get capped and re-placed once reached.
+     */
+    private static final long MAX_DELTA = (1L << (BITS * LEVELS)) - 1;
+
+    public final Thread thread;
+    private final long startNanos = System.nanoTime();
+    private final Timeout[] buckets = new Timeout[LEVELS * SLOTS];
+    private final long[] occupied = new long[LEVELS];
+    private final List<Timeout> due = new ArrayList<>();
+    /**
+     * Next tick that was not processed yet. All ticks before it were processed.
+     */
+    private long currentTick;
+    /**
+     * Tick at which the thread wakes up next, or {@link Long#MAX_VALUE} if it waits for new tasks.
+     */
+    private long wakeTick = Long.MAX_VALUE;
+
+    TimingWheel(String threadName) {
+        thread = new Thread(this::loop);
+        thread.setName(threadName);
+        thread.start();
+    }
+
+    /**
+     * Returns the current tick (milliseconds since creation of this wheel).
+     */
+    long nowTick() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Runs the provided task once, after the provided delay.
+     *
+     * @return timeout that can be used to cancel the task.
+     */
+    Timeout schedule(Runnable task, long delayMillis) {
+        Timeout timeout = new Timeout(this, task);
+        synchronized (this) {
+            // Round up, so that the task never runs too early
+            long deadlineNanos = System.nanoTime() - startNanos + Math.max(0, delayMillis) * 1_000_000;
+            timeout.deadline = Math.max(currentTick, (deadlineNanos + 999_999) / 1_000_000);
+            place(timeout);
+            if (timeout.deadline < wakeTick) notifyAll();
+        }
+        return timeout;
+    }
+
+    private void place(Timeout timeout) {
+        long delta = Math.min(timeout.deadline - currentTick, MAX_DELTA);
+        long deadline = currentTick + delta;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) level++;
+        int slot = (int) (deadline >>> (BITS * level)) & MASK;
+        int index = level * SLOTS + slot;
+        Timeout head = buckets[index];
+        timeout.next = head;
+        timeout.previous = null;
+        if (head != null) head.previous = timeout;
+        buckets[index] = timeout;
+        timeout.index = index;
+        occupied[level] |= 1L << slot;
+    }
+
+    private void unlink(Timeout timeout) {
+        int index = timeout.index;
+        if (timeout.previous != null) timeout.previous.next = timeout.next;
+        else buckets[index] = timeout.next;
+        if (timeout.next != null) timeout.next.previous = timeout.previous;
+        if (buckets[index] == null) occupied[index / SLOTS] &= ~(1L << (index & MASK));
+        timeout.next = null;
+        timeout.previous = null;
+        timeout.index = -1;
+    }
+
+    /**
+     * Removes all timeouts from the bucket and returns the first one of the linked list.
+     */
+    private Timeout detach(int level, int slot) {
+        int index = level * SLOTS + slot;
+        Timeout head = buckets[index];
+        buckets[index] = null;
+        occupied[level] &= ~(1L << slot);
+        return head;
+    }
+
+    /**
+     * Returns the next tick at which a bucket must be processed, or {@link Long#MAX_VALUE} if all are empty.
+     */
+    private long nextTick() {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            long mask = occupied[level];
+            if (mask == 0) continue;
+            int shift = BITS * level;
+            long base = currentTick >>> shift;
+            // Bucket of the current position is due now, if the current tick is its start
+            long firstDistance = (currentTick & ((1L << shift) - 1)) == 0 ? 0 : 1;
+            long rotated = Long.rotateRight(mask, (int) ((base + firstDistance) & MASK));
+            long distance = firstDistance + Long.numberOfTrailingZeros(rotated);
+            next = Math.min(next, (base + distance) << shift);
+        }
+        return next;
+    }
+
+    /**
+     * Moves all timeouts of the buckets that start at the current tick one level down
+     * and collects the due timeouts.
+     */
+    private void processCurrentTick() {
+        for (int level = LEVELS - 1; level >= 0; level--) {
+            int shift = BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) continue;
+            Timeout timeout = detach(level, (int) (currentTick >>> shift) & MASK);
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                timeout.previous = null;
+                timeout.index = -1;
+                if (timeout.deadline <= currentTick) due.add(timeout);
+                else place(timeout);
+                timeout = next;
+            }
+        }
+        currentTick++;
+    }
+
+    private void loop() {
+        try {
+            while (true) {
+                synchronized (this) {
+                    while (true) {
+                        long next = nextTick();
+                        long now = nowTick();
+                        if (next <= now) {
+                            currentTick = Math.max(currentTick, next);
+                            processCurrentTick();
+                            if (!due.isEmpty()) break;
+                            continue;
+                        }
+                        if (currentTick < now) currentTick = now; // Nothing due in between, jump ahead
+                        wakeTick = next;
+                        if (next == Long.MAX_VALUE) wait();
+                        else wait(Math.max(1, next - now));
+                        wakeTick = Long.MAX_VALUE;
+                    }
+                }
+                for (Timeout timeout : due) {
+                    try {
+                        timeout.task.run();
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    }
+                }
+                due.clear();
+            }
+        } catch (InterruptedException e) { // Stopped
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the amount of scheduled timeouts. O(n), thus should only be used for monitoring.
+     */
+    synchronized int size() {
+        int size = 0;
+        for (Timeout timeout : buckets) {
+            for (; timeout != null; timeout = timeout.next) size++;
+        }
+        return size;
+    }
+
+    /**
+     * A task scheduled via {@link #schedule(Runnable, long)}.
+     */
+    static final class Timeout {
+        final TimingWheel wheel;
+        final Runnable task;
+        long deadline;
+        Timeout previous, next;
+        int index = -1;
+
+        Timeout(TimingWheel wheel, Runnable task) {
+            this.wheel = wheel;
+            this.task = task;
+        }
+
+        /**
+         * Removes the task from the wheel, if it was not run yet.
+         *
+         * @return true if the task was removed, false if it already ran or is about to run.
+         */
+        boolean cancel() {
+            synchronized (wheel) {
+                if (index < 0) return false;
+                wheel.unlink(this);
+                return true;
+            }
+        }
+    }
+}
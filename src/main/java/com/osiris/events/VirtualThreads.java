@@ -0,0 +1,38 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Access to virtual threads, which are only available on Java 21 or higher. <br>
+ * This is the Java 8 version of this class, which does not support them. The multi-release jar contains
+ * a Java 21 version of this class, which gets used automatically on Java 21 or higher. <br>
+ * See {@link Event#useVirtualThreads()} and {@link SuperLoop#useVirtualThreads()}.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns true if virtual threads are available on the current Java version.
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Returns an executor that runs each task in its own new virtual thread,
+     * or null if virtual threads are not supported.
+     */
+    public static Executor executor() {
+        return null;
+    }
+}
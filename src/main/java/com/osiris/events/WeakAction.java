@@ -0,0 +1,65 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
+
+/**
+ * Action that only holds a weak reference to its owner, thus does not prevent the owner from being garbage collected. <br>
+ * Once the owner was collected, this action gets removed from its event automatically,
+ * without checking any {@link #removeCondition}. <br>
+ * See {@link Event#addWeakAction(Object, BetterBiConsumer, Consumer)} for details.
+ */
+public class WeakAction<O, T> extends Action<T> {
+    /**
+     * Holds code. Gets executed on an event, as long as the owner was not garbage collected.
+     * Has the owner as first parameter and the value T as second one.
+     */
+    public final BetterBiConsumer<O, T> onOwnerEvent;
+    final OwnerReference<O, T> owner;
+
+    /**
+     * Creates an action.
+     *
+     * @param owner          See {@link #getOwner()}.
+     * @param collectedOwners queue the owner reference gets enqueued into, once the owner was garbage collected.
+     * @param onOwnerEvent   See {@link WeakAction#onOwnerEvent}.
+     * @param onException    See {@link Action#onException}.
+     */
+    WeakAction(Event<T> event, O owner, ReferenceQueue<Object> collectedOwners, BetterBiConsumer<O, T> onOwnerEvent, Consumer<Exception> onException) {
+        super(event, null, onException, false, null);
+        this.owner = new OwnerReference<>(owner, collectedOwners, this);
+        this.onOwnerEvent = onOwnerEvent;
+        this.onEvent = (action, value) -> {
+            O o = this.owner.get();
+            if (o != null) onOwnerEvent.accept(o, value);
+        };
+    }
+
+    /**
+     * Returns the owner, or null if it was already garbage collected.
+     */
+    public O getOwner() {
+        return owner.get();
+    }
+
+    /**
+     * Weak reference to the owner, that knows the action it belongs to.
+     */
+    static final class OwnerReference<O, T> extends WeakReference<O> {
+        final WeakAction<O, T> action;
+
+        OwnerReference(O owner, ReferenceQueue<Object> queue, WeakAction<O, T> action) {
+            super(owner, queue);
+            this.action = action;
+        }
+    }
+}
@@ -1,13 +1,138 @@
 package com.osiris.events;
 
-import java.util.HashSet;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-class WrappedRunnable {
-    public int currentSleepSeconds;
-    public Set<Event<?>> events = new HashSet<>();
+/**
+ * Runs the {@link Event#cleanerRunnable} of an event periodically, via the {@link Event#cleanerWheel}. <br>
+ * Stops rescheduling itself once the events' actions list is empty, and gets scheduled again
+ * once a new action is added. <br>
+ * Only holds a weak reference to the event, thus events that are not used anymore can be garbage collected,
+ * together with their actions. Collected events get removed from the {@link Event#cleanerWheel} via a {@link ReferenceQueue},
+ * that gets drained lazily: each time a cleaner is created, runs, gets scheduled or cancelled and each time {@link #tasks()} is read.
+ * Nothing drains it in the background, thus an idle cleaner thread never wakes up for it.
+ */
+class WrappedRunnable extends WeakReference<Event<?>> implements Runnable {
+    private static final ReferenceQueue<Event<?>> collectedEvents = new ReferenceQueue<>();
+    /**
+     * All cleaner tasks whose event was not garbage collected or whose cleaner was not replaced yet.
+     */
+    static final Set<WrappedRunnable> all = ConcurrentHashMap.newKeySet();
+    public final long intervalMillis;
+    private TimingWheel.Timeout timeout;
+    private boolean cancelled;
+    /**
+     * Duration of the last run in nanoseconds, or -1 if it did not run yet.
+     */
+    volatile long lastRunNanos = -1;
 
-    public WrappedRunnable(int currentSleepSeconds) {
-        this.currentSleepSeconds = currentSleepSeconds;
+    public WrappedRunnable(Event<?> event, long intervalMillis) {
+        super(event, collectedEvents);
+        this.intervalMillis = intervalMillis;
+        removeCollected();
+        all.add(this);
+    }
+
+    /**
+     * Cancels the tasks of all garbage collected events. O(1) if there are none.
+     */
+    static void removeCollected() {
+        Reference<? extends Event<?>> reference;
+        while ((reference = collectedEvents.poll()) != null) {
+            ((WrappedRunnable) reference).cancelOnly();
+        }
+    }
+
+    /**
+     * Returns {@link #all} after removing the tasks of garbage collected events from it.
+     */
+    static Set<WrappedRunnable> tasks() {
+        removeCollected();
+        return all;
+    }
+
+    /**
+     * Schedules the next run, if not already scheduled or cancelled. <br>
+     * Runs are aligned to multiples of the interval, like the old global cleaner ticks were,
+     * thus cleaners with the same interval run together and the first run happens within one interval.
+     */
+    public void schedule() {
+        removeCollected(); // Outside of the lock, since it locks other tasks
+        synchronized (this) {
+            if (timeout == null && !cancelled) {
+                long interval = intervalMillis > 0 ? intervalMillis : 1000; // 0 ran on every tick of the old global cleaner, once per second
+                timeout = Event.cleanerWheel.schedule(this, interval - Event.cleanerWheel.nowTick() % interval);
+            }
+        }
+    }
+
+    /**
+     * Prevents any further runs.
+     */
+    public void cancel() {
+        cancelOnly();
+        removeCollected();
+    }
+
+    private synchronized void cancelOnly() {
+        cancelled = true;
+        all.remove(this);
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            timeout = null;
+            if (cancelled) return;
+        }
+        Event<?> event = get();
+        if (event == null) {
+            cancel();
+            return;
+        }
+        try {
+            clean(event);
+        } finally {
+            if (event.actionCount() != 0) schedule();
+            else removeCollected();
+        }
+    }
+
+    /**
+     * Runs the {@link Event#cleanerRunnable} of the event in the current thread,
+     * without affecting the schedule.
+     *
+     * @return the amount of removed actions, or -1 if the event was garbage collected.
+     */
+    int clean() {
+        Event<?> event = get();
+        return event == null ? -1 : clean(event);
+    }
+
+    private int clean(Event<?> event) {
+        EventMetrics metrics = event.metrics;
+        long start = System.nanoTime();
+        int sizeBefore = event.actionCount();
+        int removed = 0;
+        Object recording = FlightRecorder.beginCleaner();
+        try {
+            event.cleanerRunnable.run();
+        } finally {
+            removed = Math.max(0, sizeBefore - event.actionCount());
+            lastRunNanos = System.nanoTime() - start;
+            FlightRecorder.commitCleaner(recording, event, removed);
+            if (metrics != null) {
+                metrics.cleanerLatency.record(lastRunNanos);
+                metrics.cleanerRemovals.add(removed);
+            }
+        }
+        return removed;
     }
 }
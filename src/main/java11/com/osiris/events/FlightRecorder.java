@@ -0,0 +1,163 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import jdk.jfr.*;
+
+/**
+ * Hooks for JDK Flight Recorder events. <br>
+ * This is the Java 11 version of this class, which emits the events below, if they are enabled in a running recording.
+ * Otherwise each hook only checks a flag. <br>
+ * The default thresholds can be changed via the recording settings, for example: <br>
+ * <pre>
+ * jcmd &lt;pid&gt; JFR.start settings=profile com.osiris.events.SlowAction#threshold=1ms
+ * </pre>
+ */
+final class FlightRecorder {
+    private static final ExecuteRecording EXECUTE = new ExecuteRecording();
+    private static final ActionRecording ACTION = new ActionRecording();
+    private static final CleanerRecording CLEANER = new CleanerRecording();
+    private static final TickRecording TICK = new TickRecording();
+
+    private FlightRecorder() {
+    }
+
+    private static String describe(Object object) {
+        return object.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(object));
+    }
+
+    static Object beginExecute() {
+        if (!EXECUTE.isEnabled()) return null;
+        ExecuteRecording recording = new ExecuteRecording();
+        recording.begin();
+        return recording;
+    }
+
+    static void commitExecute(Object recording, Event<?> event, int actionCount) {
+        if (recording == null) return;
+        ExecuteRecording r = (ExecuteRecording) recording;
+        r.end();
+        if (r.shouldCommit()) {
+            r.event = describe(event);
+            r.actionCount = actionCount;
+            r.commit();
+        }
+    }
+
+    static Object beginAction() {
+        if (!ACTION.isEnabled()) return null;
+        ActionRecording recording = new ActionRecording();
+        recording.begin();
+        return recording;
+    }
+
+    static void commitAction(Object recording, Action<?> action) {
+        if (recording == null) return;
+        ActionRecording r = (ActionRecording) recording;
+        r.end();
+        if (r.shouldCommit()) {
+            r.event = describe(action.event);
+            r.action = describe(action.onEvent); // Lambda class names contain the class that added the action
+            r.commit();
+        }
+    }
+
+    static Object beginCleaner() {
+        if (!CLEANER.isEnabled()) return null;
+        CleanerRecording recording = new CleanerRecording();
+        recording.begin();
+        return recording;
+    }
+
+    static void commitCleaner(Object recording, Event<?> event, int removedActions) {
+        if (recording == null) return;
+        CleanerRecording r = (CleanerRecording) recording;
+        r.end();
+        if (r.shouldCommit()) {
+            r.event = describe(event);
+            r.removedActions = removedActions;
+            r.remainingActions = event.actionCount();
+            r.commit();
+        }
+    }
+
+    static Object beginTick() {
+        if (!TICK.isEnabled()) return null;
+        TickRecording recording = new TickRecording();
+        recording.begin();
+        return recording;
+    }
+
+    static void commitTick(Object recording, SuperLoop loop, long ticks) {
+        if (recording == null) return;
+        TickRecording r = (TickRecording) recording;
+        r.end();
+        if (r.shouldCommit()) {
+            r.loop = loop.thread.getName();
+            r.ticks = ticks;
+            r.latenessNanos = loop.getLastTickLatenessNanos();
+            r.commit();
+        }
+    }
+
+    @Name("com.osiris.events.Execute")
+    @Label("Event Execution")
+    @Description("Execution of all actions of an event.")
+    @Category("Easy-Java-Events")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static class ExecuteRecording extends jdk.jfr.Event {
+        @Label("Event")
+        String event;
+        @Label("Actions")
+        int actionCount;
+    }
+
+    @Name("com.osiris.events.SlowAction")
+    @Label("Slow Action")
+    @Description("Execution of a single action, that took longer than the threshold.")
+    @Category("Easy-Java-Events")
+    @Threshold("10 ms")
+    static class ActionRecording extends jdk.jfr.Event {
+        @Label("Event")
+        String event;
+        @Label("Action")
+        String action;
+    }
+
+    @Name("com.osiris.events.Cleaner")
+    @Label("Cleaner Run")
+    @Description("Run of the cleaner of an event, that removes the removable actions.")
+    @Category("Easy-Java-Events")
+    @StackTrace(false)
+    static class CleanerRecording extends jdk.jfr.Event {
+        @Label("Event")
+        String event;
+        @Label("Removed Actions")
+        int removedActions;
+        @Label("Remaining Actions")
+        int remainingActions;
+    }
+
+    @Name("com.osiris.events.SuperLoopTick")
+    @Label("SuperLoop Tick")
+    @Description("Tick of a SuperLoop, that runs all due runnables.")
+    @Category("Easy-Java-Events")
+    @StackTrace(false)
+    static class TickRecording extends jdk.jfr.Event {
+        @Label("Loop")
+        String loop;
+        @Label("Ticks")
+        @Description("Amount of ticks that were coalesced into this one.")
+        long ticks;
+        @Label("Lateness")
+        @Timespan(Timespan.NANOSECONDS)
+        long latenessNanos;
+    }
+}
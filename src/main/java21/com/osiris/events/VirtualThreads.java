@@ -0,0 +1,40 @@
+/*
+ * Copyright Osiris Team
+ * All rights reserved.
+ *
+ * This software is copyrighted work licensed under the terms of the
+ * AutoPlug License.  Please consult the file "LICENSE" for details.
+ */
+
+package com.osiris.events;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads, which are only available on Java 21 or higher. <br>
+ * This is the Java 21 version of this class, located under META-INF/versions/21 of the multi-release jar. <br>
+ * See {@link Event#useVirtualThreads()} and {@link SuperLoop#useVirtualThreads()}.
+ */
+public final class VirtualThreads {
+    private static final ThreadFactory factory = Thread.ofVirtual().name("Easy-Java-Events-Virtual-", 0).factory();
+    private static final Executor executor = task -> factory.newThread(task).start();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns true if virtual threads are available on the current Java version.
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Returns an executor that runs each task in its own new virtual thread,
+     * or null if virtual threads are not supported.
+     */
+    public static Executor executor() {
+        return executor;
+    }
+}
@@ -0,0 +1,109 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionListTest {
+    @Test
+    void snapshotIteration() {
+        Event<Void> event = new Event<>();
+        List<Action<Void>> toAdd = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            toAdd.add(new Action<>(event, (a, v) -> {
+            }, null, false, i));
+        }
+        event.addActions(toAdd);
+        assertEquals(100, event.actions.size());
+
+        Iterator<Action<Void>> it = event.actions.iterator();
+        event.addAction(value -> {
+        }); // Appends into the shared array
+        event.actions.remove(0); // Copies
+        int count = 0;
+        while (it.hasNext()) {
+            assertEquals(count, it.next().object);
+            count++;
+        }
+        assertEquals(100, count); // Iterator is not affected by later changes
+        assertEquals(100, event.actions.size());
+        assertEquals(1, event.actions.get(0).object);
+
+        event.removeActions(toAdd);
+        assertEquals(1, event.actions.size());
+        assertNull(event.actions.get(0).object);
+    }
+
+    @Test
+    void insertAndSet() {
+        Event<Void> event = new Event<>();
+        Action<Void> a = event.addAction(value -> {
+        });
+        Action<Void> b = event.addAction(value -> {
+        });
+        Action<Void> c = new Action<>(event, (action, v) -> {
+        }, null, false, null);
+        event.actions.add(1, c);
+        assertSame(c, event.actions.get(1));
+        assertSame(b, event.actions.get(2));
+        assertSame(a, event.actions.set(0, b));
+        assertEquals(3, event.actions.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> event.actions.get(3));
+    }
+
+    @Test
+    void removeIf() {
+        Event<Void> event = new Event<>();
+        List<Action<Void>> toAdd = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            toAdd.add(new Action<>(event, (a, v) -> {
+            }, null, false, i));
+        }
+        event.addActions(toAdd);
+        event.markActionAsRemovable(toAdd.get(1));
+        event.removeIf(action -> (int) action.object % 3 == 0);
+        assertEquals(665, event.actions.size());
+        assertTrue(event.actionsToRemove.isEmpty());
+        int previous = -1;
+        for (Action<Void> action : event.actions) {
+            int i = (int) action.object;
+            assertTrue(i > previous); // Order is kept
+            assertNotEquals(0, i % 3);
+            assertNotEquals(1, i);
+            previous = i;
+        }
+    }
+
+    @Test
+    void priorities() {
+        Event<Void> event = new Event<>();
+        List<String> order = new ArrayList<>();
+        event.addAction(value -> order.add("0a"));
+        event.addAction(-1, value -> order.add("-1"));
+        event.addAction(5, (action, value) -> {
+            order.add("5");
+        }, null);
+        event.addAction(value -> order.add("0b"));
+        event.addAction(10, value -> order.add("10"));
+        List<Action<Void>> toAdd = new ArrayList<>();
+        for (int priority : new int[]{-2, 5, 0}) {
+            Action<Void> action = new Action<>(event, (a, v) -> order.add(priority + "c"), null, false, null);
+            action.priority = priority;
+            toAdd.add(action);
+        }
+        event.addActions(toAdd);
+        event.execute(null);
+        assertEquals(Arrays.asList("10", "5", "5c", "0a", "0b", "0c", "-1", "-2c"), order);
+
+        order.clear();
+        event.addAction(100, value -> order.add("skip")).skipNextActions();
+        event.execute(null);
+        assertEquals(Collections.singletonList("skip"), order);
+    }
+}
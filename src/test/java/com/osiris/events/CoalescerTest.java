@@ -0,0 +1,88 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescerTest {
+    @Test
+    void debounce() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initCoalescing(50, TimeUnit.MILLISECONDS, false, true, 0);
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        event.addAction(values::add);
+        for (int i = 0; i < 1000; i++) {
+            event.executeCoalesced(i);
+        }
+        assertTrue(values.isEmpty());
+        Thread.sleep(200);
+        assertEquals(1, values.size());
+        assertEquals(999, values.get(0));
+    }
+
+    @Test
+    void leadingAndTrailing() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initCoalescing(50, TimeUnit.MILLISECONDS, true, true, 0);
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        event.addAction(values::add);
+        for (int i = 0; i < 1000; i++) {
+            event.executeCoalesced(i);
+        }
+        assertEquals(1, values.size());
+        assertEquals(0, values.get(0));
+        Thread.sleep(200);
+        assertEquals(2, values.size());
+        assertEquals(999, values.get(1));
+    }
+
+    @Test
+    void throttle() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initCoalescing(50, TimeUnit.MILLISECONDS);
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        event.addAction(values::add);
+        long end = System.currentTimeMillis() + 500;
+        int i = 0;
+        while (System.currentTimeMillis() < end) {
+            event.executeCoalesced(i++);
+            Thread.sleep(1);
+        }
+        Thread.sleep(200);
+        assertTrue(values.size() >= 5 && values.size() <= 12, values.toString());
+        assertEquals(i - 1, values.get(values.size() - 1));
+    }
+
+    @Test
+    void slowActionsDoNotOverlap() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initCoalescing(10, TimeUnit.MILLISECONDS, false, true, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        event.executor = executor;
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        event.addAction(value -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            values.add(value);
+            running.decrementAndGet();
+        });
+        int i = 0;
+        long end = System.currentTimeMillis() + 300;
+        while (System.currentTimeMillis() < end) {
+            event.executeCoalesced(i++);
+            Thread.sleep(1);
+        }
+        Thread.sleep(500);
+        assertEquals(1, maxRunning.get());
+        for (int j = 1; j < values.size(); j++) {
+            assertTrue(values.get(j - 1) < values.get(j), values.toString());
+        }
+        assertEquals(i - 1, values.get(values.size() - 1));
+        executor.shutdown();
+    }
+}
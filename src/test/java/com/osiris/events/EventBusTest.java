@@ -0,0 +1,41 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventBusTest {
+    @Test
+    void dispatchesByTypeHierarchy() {
+        EventBus bus = new EventBus();
+        List<String> calls = new ArrayList<>();
+        bus.subscribe(Object.class, value -> calls.add("Object"));
+        bus.subscribe(CharSequence.class, value -> calls.add("CharSequence"));
+        bus.subscribe(Integer.class, value -> calls.add("Integer"));
+
+        bus.post("a");
+        assertEquals(Arrays.asList("CharSequence", "Object"), calls);
+
+        calls.clear();
+        bus.subscribe(String.class, value -> calls.add("String")); // Replaces the cache
+        bus.subscribe(Number.class, value -> calls.add("Number"));
+        bus.post("a");
+        bus.post(1);
+        bus.post(1L);
+        assertEquals(Arrays.asList("String", "CharSequence", "Object", "Integer", "Number", "Object", "Number", "Object"), calls);
+
+        calls.clear();
+        Action<Serializable> action = bus.subscribe(Serializable.class, value -> calls.add("Serializable"));
+        bus.post(new StringBuilder());
+        bus.post(2);
+        action.remove();
+        bus.post(3);
+        assertEquals(Arrays.asList("Serializable", "CharSequence", "Object", "Integer", "Number", "Serializable", "Object",
+                "Integer", "Number", "Object"), calls);
+    }
+}
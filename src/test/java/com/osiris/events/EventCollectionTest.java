@@ -0,0 +1,66 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EventCollectionTest {
+    @Test
+    void eventWithCleanerGetsCollected() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initCleaner(1, obj -> obj != null, Exception::printStackTrace);
+        event.addAction(value -> {
+        });
+        WeakReference<Event<Integer>> reference = new WeakReference<>(event);
+        WrappedRunnable task = null;
+        for (WrappedRunnable t : WrappedRunnable.all) {
+            if (t.get() == event) task = t;
+        }
+        assertNotNull(task);
+        event = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(reference.get());
+
+        for (int i = 0; i < 50 && WrappedRunnable.all.contains(task); i++) {
+            WrappedRunnable.removeCollected();
+            Thread.sleep(20);
+        }
+        assertFalse(WrappedRunnable.all.contains(task));
+    }
+
+    @Test
+    void monitorRemovesCleanerOfCollectedEvent() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initCleaner(1, obj -> obj != null, Exception::printStackTrace);
+        WeakReference<Event<Integer>> reference = new WeakReference<>(event);
+        WrappedRunnable task = null;
+        for (WrappedRunnable t : WrappedRunnable.all) {
+            if (t.get() == event) task = t;
+        }
+        assertNotNull(task);
+        // No actions, thus the cleaner does not reschedule itself after its first run
+        for (int i = 0; i < 100 && task.lastRunNanos == -1; i++) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        event = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(reference.get());
+
+        // Nothing drains the reference queue in the background, reading the monitor does
+        EventsMonitor monitor = new EventsMonitor();
+        for (int i = 0; i < 300 && WrappedRunnable.all.contains(task); i++) {
+            monitor.getEventCount();
+            Thread.sleep(10);
+        }
+        assertFalse(WrappedRunnable.all.contains(task));
+    }
+}
@@ -0,0 +1,139 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendAndReplayAfterRestart() throws IOException {
+        Event<String> event = new Event<>();
+        event.journal = new EventJournal<>(event, directory, EventJournal.Codec.UTF_8, 256); // Small segments
+        for (int i = 0; i < 200; i++) {
+            event.execute("value" + i);
+        }
+        assertEquals(200, event.journal.nextSequence());
+        assertTrue(Files.list(directory).count() > 1);
+        event.journal.close();
+
+        // Restart
+        Event<String> restarted = new Event<>();
+        restarted.journal = new EventJournal<>(restarted, directory, EventJournal.Codec.UTF_8, 256);
+        assertEquals(200, restarted.journal.nextSequence());
+        List<String> values = new ArrayList<>();
+        restarted.addAction(values::add);
+        assertEquals(200, restarted.journal.replay(0));
+        assertEquals(200, values.size());
+        assertEquals("value0", values.get(0));
+        assertEquals("value199", values.get(199));
+        assertEquals(200, restarted.journal.nextSequence()); // Replays are not appended again
+
+        values.clear();
+        assertEquals(30, restarted.journal.replay(170));
+        assertEquals("value170", values.get(0));
+
+        restarted.execute("value200");
+        assertEquals(201, restarted.journal.nextSequence());
+        values.clear();
+        restarted.journal.replay(200);
+        assertEquals(1, values.size());
+        assertEquals("value200", values.get(0));
+        restarted.journal.close();
+    }
+
+    @Test
+    void replayFromTime() throws IOException, InterruptedException {
+        Event<String> event = new Event<String>().initJournal(directory, EventJournal.Codec.UTF_8);
+        event.execute("old");
+        Thread.sleep(20);
+        long time = System.currentTimeMillis();
+        event.execute("new");
+        List<String> values = new ArrayList<>();
+        event.addAction(values::add);
+        assertEquals(1, event.journal.replayFromTime(time));
+        assertEquals("new", values.get(0));
+        EventJournal<String> journal = event.journal;
+        journal.close();
+        assertNull(event.journal);
+        event.execute("not journaled");
+        assertEquals("not journaled", values.get(1));
+        assertEquals(2, journal.nextSequence());
+    }
+
+    @Test
+    void codecFailureDoesNotStopExecution() throws IOException {
+        Event<String> event = new Event<String>().initJournal(directory, new EventJournal.Codec<String>() {
+            @Override
+            public byte[] encode(String value) throws Exception {
+                if (value.equals("bad")) throw new Exception("Can't encode");
+                return EventJournal.Codec.UTF_8.encode(value);
+            }
+
+            @Override
+            public String decode(byte[] bytes) throws Exception {
+                return EventJournal.Codec.UTF_8.decode(bytes);
+            }
+        });
+        List<Exception> exceptions = new ArrayList<>();
+        event.journal.onException = exceptions::add;
+        List<String> values = new ArrayList<>();
+        event.addAction(values::add);
+        event.execute("good");
+        event.execute("bad");
+        assertEquals(2, values.size());
+        assertEquals(1, exceptions.size());
+        assertEquals(1, event.journal.nextSequence());
+        event.journal.close();
+    }
+
+    @Test
+    void replaceJournal() throws IOException {
+        Event<String> event = new Event<String>().initJournal(directory.resolve("a"), EventJournal.Codec.UTF_8);
+        EventJournal<String> previous = event.journal;
+        event.initJournal(directory.resolve("b"), EventJournal.Codec.UTF_8);
+        assertEquals(0, previous.append("value")); // Forwarded to the current journal
+        assertEquals(1, event.journal.nextSequence());
+        event.journal.close();
+    }
+
+    @Test
+    void reopenSameDirectory() throws IOException {
+        Event<String> event = new Event<String>().initJournal(directory, EventJournal.Codec.UTF_8);
+        event.execute("value0");
+        EventJournal<String> previous = event.journal;
+        event.initJournal(directory, EventJournal.Codec.UTF_8);
+        assertEquals(1, previous.append("value1")); // Forwarded, not written a second time under the same sequence
+        event.execute("value2");
+        List<String> values = new ArrayList<>();
+        event.addAction(values::add);
+        assertEquals(3, event.journal.replay(0));
+        assertEquals(Arrays.asList("value0", "value1", "value2"), values);
+        event.journal.close();
+    }
+
+    @Test
+    void gapFailsToOpen() throws IOException {
+        Event<String> event = new Event<>();
+        event.journal = new EventJournal<>(event, directory, EventJournal.Codec.UTF_8, 256);
+        event.execute("value0");
+        event.journal.close();
+        Path gap = directory.resolve(String.format("%020d", 1000) + ".journal");
+        Files.write(gap, new byte[256]);
+
+        IOException e = assertThrows(IOException.class, () -> new EventJournal<>(event, directory, EventJournal.Codec.UTF_8, 256));
+        assertTrue(e.getMessage().contains(gap.getFileName().toString()), e.getMessage());
+        assertTrue(Files.exists(gap));
+        assertEquals(2, Files.list(directory).count());
+    }
+}
@@ -0,0 +1,54 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventMetricsTest {
+    @Test
+    void recordsExecutionsAndExceptions() {
+        Event<Integer> event = new Event<>();
+        event.addAction(value -> Thread.sleep(1));
+        event.addAction(value -> {
+            if (value % 2 == 0) throw new Exception("even");
+        }, ex -> {
+        });
+        event.execute(0);
+        assertNull(event.getMetricsSnapshot());
+        assertNull(event.actions.get(0).metrics);
+
+        event.enableMetrics();
+        for (int i = 0; i < 10; i++) {
+            event.execute(i);
+        }
+        EventMetrics.Snapshot snapshot = event.getMetricsSnapshot();
+        assertEquals(10, snapshot.executeCount);
+        assertEquals(5, snapshot.exceptionCount);
+        assertEquals(10, snapshot.executeLatency.count);
+        assertTrue(snapshot.executeLatency.getValueAtPercentile(50) >= 1_000_000);
+        assertEquals(2, snapshot.actions.size());
+        assertEquals(11, snapshot.actions.get(0).executionCount);
+        assertEquals(10, snapshot.actions.get(0).latency.count);
+        assertEquals(5, snapshot.actions.get(1).exceptionCount);
+        assertEquals(5, snapshot.actions.get(1).latency.count);
+    }
+
+    @Test
+    void histogramPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count);
+        assertEquals(1_000_000, snapshot.maxNanos);
+        long p50 = snapshot.getValueAtPercentile(50);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.125, String.valueOf(p50));
+        long p99 = snapshot.getValueAtPercentile(99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, String.valueOf(p99));
+        for (int bucket = 1; bucket < LatencyHistogram.BUCKETS - 8; bucket++) {
+            assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.highestValueOf(bucket)));
+            assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.highestValueOf(bucket - 1) + 1));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventQueueTest {
+
+    /**
+     * Returns a queue whose consumer is blocked in the first value, until the returned latch is released.
+     */
+    private EventQueue<Integer> blockedQueue(EventQueue.OverflowPolicy policy, List<Integer> values, CountDownLatch release) throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initQueue(2, policy);
+        CountDownLatch started = new CountDownLatch(1);
+        event.addAction(value -> {
+            started.countDown();
+            release.await();
+            values.add(value);
+        });
+        event.executeQueued(0);
+        started.await();
+        return event.queue;
+    }
+
+    @Test
+    void dropNewest() throws InterruptedException {
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        EventQueue<Integer> queue = blockedQueue(EventQueue.OverflowPolicy.DROP_NEWEST, values, release);
+        assertTrue(queue.publish(1));
+        assertTrue(queue.publish(2));
+        assertFalse(queue.publish(3));
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.droppedCount.sum());
+        release.countDown();
+        queue.close();
+        assertEquals(3, values.size());
+        assertEquals(2, values.get(2));
+    }
+
+    @Test
+    void dropOldest() throws InterruptedException {
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        EventQueue<Integer> queue = blockedQueue(EventQueue.OverflowPolicy.DROP_OLDEST, values, release);
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(queue.publish(i));
+        }
+        assertEquals(3, queue.droppedCount.sum());
+        release.countDown();
+        queue.close();
+        assertEquals(3, values.size());
+        assertEquals(4, values.get(1));
+        assertEquals(5, values.get(2));
+    }
+
+    @Test
+    void fail() throws InterruptedException {
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        EventQueue<Integer> queue = blockedQueue(EventQueue.OverflowPolicy.FAIL, values, release);
+        queue.publish(1);
+        queue.publish(2);
+        assertThrows(RejectedExecutionException.class, () -> queue.publish(3));
+        assertEquals(1, queue.rejectedCount.sum());
+        release.countDown();
+        queue.close();
+        assertThrows(IllegalStateException.class, () -> queue.publish(4));
+    }
+
+    @Test
+    void block() throws InterruptedException {
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        EventQueue<Integer> queue = blockedQueue(EventQueue.OverflowPolicy.BLOCK, values, release);
+        queue.publish(1);
+        queue.publish(2);
+        Thread producer = new Thread(() -> queue.publish(3));
+        producer.start();
+        Thread.sleep(100);
+        assertTrue(producer.isAlive());
+        release.countDown();
+        producer.join();
+        queue.close();
+        assertEquals(4, values.size());
+        assertEquals(0, queue.droppedCount.sum());
+    }
+
+    @Test
+    void pendingLimitedToCapacity() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initQueue(2, EventQueue.OverflowPolicy.DROP_NEWEST);
+        LinkedBlockingQueue<Integer> started = new LinkedBlockingQueue<>();
+        Semaphore permits = new Semaphore(0);
+        event.addAction(value -> {
+            started.add(value);
+            permits.acquire();
+        });
+        EventQueue<Integer> queue = event.queue;
+        queue.publish(0);
+        assertEquals(0, started.take());
+        queue.publish(1);
+        queue.publish(2);
+        permits.release(); // Finishes 0, starts 1
+        assertEquals(1, started.take());
+        assertTrue(queue.publish(3));
+        assertFalse(queue.publish(4)); // 2 and 3 are pending
+        assertEquals(1, queue.droppedCount.sum());
+        permits.release(10);
+        queue.close();
+    }
+
+    @Test
+    void closeFromAction() throws InterruptedException {
+        Event<Integer> event = new Event<Integer>().initQueue(4, EventQueue.OverflowPolicy.BLOCK);
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        event.addAction(value -> {
+            if (value == 0) {
+                release.await();
+                event.queue.close(); // Must not wait for its own thread
+                closed.countDown();
+            }
+            values.add(value);
+        });
+        event.executeQueued(0);
+        event.executeQueued(1);
+        event.executeQueued(2);
+        release.countDown();
+        closed.await();
+        assertThrows(IllegalStateException.class, () -> event.queue.publish(3));
+        event.queue.close(); // Waits for the pending values
+        assertEquals(Arrays.asList(0, 1, 2), values);
+    }
+}
@@ -0,0 +1,100 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventRingBufferTest {
+    @Test
+    void publish() throws Exception {
+        for (EventRingBuffer.WaitStrategy waitStrategy : EventRingBuffer.WaitStrategy.values()) {
+            Event<long[]> event = new Event<>();
+            AtomicLong sum = new AtomicLong();
+            AtomicLong count = new AtomicLong();
+            event.addAction(payload -> {
+                sum.addAndGet(payload[0]);
+                count.incrementAndGet();
+            });
+            EventRingBuffer<long[]> ring = new EventRingBuffer<>(event, 64, () -> new long[1], 2, waitStrategy);
+            Thread[] producers = new Thread[2];
+            for (int p = 0; p < producers.length; p++) {
+                producers[p] = new Thread(() -> {
+                    for (long i = 1; i <= 10000; i++) {
+                        ring.publish((payload, value) -> payload[0] = value, i);
+                    }
+                });
+                producers[p].start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            ring.close();
+            assertEquals(20000, count.get());
+            assertEquals(2 * (10000L * 10001 / 2), sum.get());
+            assertEquals(0, ring.size());
+            assertThrows(IllegalStateException.class, ring::next);
+        }
+    }
+
+    @Test
+    void closeWaitsForClaimedSlots() throws Exception {
+        Event<long[]> event = new Event<>();
+        AtomicLong sum = new AtomicLong();
+        event.addAction(payload -> sum.addAndGet(payload[0]));
+        EventRingBuffer<long[]> ring = new EventRingBuffer<>(event, 8, () -> new long[1]);
+        long sequence = ring.next();
+        Thread closer = new Thread(() -> {
+            try {
+                ring.close();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        closer.start();
+        Thread.sleep(100);
+        assertTrue(closer.isAlive());
+        ring.get(sequence)[0] = 42;
+        ring.publish(sequence);
+        closer.join();
+        assertEquals(42, sum.get());
+    }
+
+    @Test
+    void throwingHandlerKeepsConsumerRunning() throws Exception {
+        Event<long[]> event = new Event<>();
+        AtomicLong count = new AtomicLong();
+        event.addAction(payload -> {
+            count.incrementAndGet();
+            throw new Exception("Action failed");
+        });
+        EventRingBuffer<long[]> ring = new EventRingBuffer<>(event, 4, () -> new long[1]);
+        ring.onException = e -> {
+            throw new RuntimeException("Handler failed", e);
+        };
+        for (long i = 0; i < 16; i++) {
+            ring.publish((payload, value) -> payload[0] = value, i);
+        }
+        ring.close();
+        assertEquals(16, count.get());
+    }
+
+    @Test
+    void errorInConsumerFailsProducers() throws Exception {
+        Event<long[]> event = new Event<>();
+        event.addAction((action, payload) -> {
+            throw new AssertionError("Expected");
+        }, Exception::printStackTrace);
+        EventRingBuffer<long[]> ring = new EventRingBuffer<>(event, 4, () -> new long[1]);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+            for (long i = 0; i < 16; i++) { // Would block forever once the buffer is full
+                ring.publish((payload, value) -> payload[0] = value, i);
+            }
+        });
+        assertTrue(e.getCause() instanceof AssertionError);
+        ring.close();
+    }
+}
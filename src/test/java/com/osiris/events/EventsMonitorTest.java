@@ -0,0 +1,59 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventsMonitorTest {
+    @Test
+    void showsEventsAndLoops() throws Exception {
+        Event<Integer> event = new Event<Integer>().initSimpleCleaner(1, TimeUnit.HOURS);
+        for (int i = 0; i < 3; i++) {
+            event.addAction(value -> {
+            }).remove();
+        }
+        event.addAction(value -> {
+        });
+        SuperLoop loop = new SuperLoop(1000);
+        try {
+            loop.add(5, () -> {
+            });
+            ObjectName name = EventsMonitor.register();
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            String eventName = event.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(event));
+            CompositeData info = null;
+            for (CompositeData data : (CompositeData[]) server.getAttribute(name, "Events")) {
+                if (data.get("name").equals(eventName)) info = data;
+            }
+            assertNotNull(info);
+            assertEquals(4, info.get("actionCount"));
+            assertEquals(3, info.get("pendingRemovalCount"));
+            assertEquals(3600, info.get("secondsBetweenChecks"));
+            assertEquals(-1L, info.get("lastCleanerDurationNanos"));
+
+            boolean found = false;
+            for (CompositeData data : (CompositeData[]) server.getAttribute(name, "SuperLoops")) {
+                if (data.get("name").equals(loop.thread.getName())) {
+                    CompositeData loopCode = ((CompositeData[]) data.get("loopCodes"))[0];
+                    assertEquals(5, loopCode.get("interval"));
+                    assertEquals(1, loopCode.get("runnableCount"));
+                    found = true;
+                }
+            }
+            assertTrue(found);
+
+            Object removed = server.invoke(name, "forceClean", new Object[]{eventName}, new String[]{String.class.getName()});
+            assertEquals(3, removed);
+            assertEquals(1, event.actions.size());
+        } finally {
+            EventsMonitor.unregister();
+            loop.stop();
+        }
+    }
+}
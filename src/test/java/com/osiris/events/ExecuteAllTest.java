@@ -0,0 +1,53 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExecuteAllTest {
+    @Test
+    void executeAll() {
+        Event<Integer> event = new Event<>();
+        List<Integer> values = new ArrayList<>();
+        List<List<Integer>> batches = new ArrayList<>();
+        List<Integer> oneTimeValues = new ArrayList<>();
+        event.addAction(values::add);
+        event.addBatchAction(batches::add);
+        event.addOneTimeAction(oneTimeValues::add);
+
+        event.executeAll(new Integer[]{1, 2, 3});
+        assertEquals(Arrays.asList(1, 2, 3), values);
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(1, 2, 3), batches.get(0));
+        assertEquals(Arrays.asList(1), oneTimeValues);
+        assertEquals(2, event.actions.size());
+
+        event.execute(4);
+        assertEquals(Arrays.asList(1, 2, 3, 4), values);
+        assertEquals(Arrays.asList(4), batches.get(1));
+        assertEquals(4, event.actions.get(0).executionCount.sum());
+    }
+
+    @Test
+    void failingRemoveConditionDoesNotAbortBatch() {
+        Event<Integer> event = new Event<>();
+        List<Integer> oneTimeValues = new ArrayList<>();
+        List<Exception> exceptions = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        Action<Integer> oneTime = event.addOneTimeAction((action, value) -> oneTimeValues.add(value), exceptions::add);
+        oneTime.removeCondition = obj -> {
+            if (!oneTimeValues.isEmpty()) throw new IllegalStateException("Expected");
+            return false;
+        };
+        event.addAction(values::add);
+
+        event.executeAll(new Integer[]{1, 2, 3});
+        assertEquals(Arrays.asList(1), oneTimeValues);
+        assertEquals(1, exceptions.size());
+        assertEquals(Arrays.asList(1, 2, 3), values);
+    }
+}
@@ -0,0 +1,53 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecuteAsyncTest {
+    @Test
+    void executeAsync() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Event<Integer> event = new Event<>();
+            event.executor = executor;
+            Thread caller = Thread.currentThread();
+            List<String> results = new CopyOnWriteArrayList<>();
+            List<Exception> exceptions = new CopyOnWriteArrayList<>();
+            event.addAction(value -> {
+                assertNotSame(caller, Thread.currentThread());
+                results.add("first " + value);
+            });
+            event.addAction((action, value) -> {
+                throw new Exception("failed " + value);
+            }, exceptions::add);
+            event.addAction(value -> results.add("second " + value)).skipNextActions();
+            event.addAction(value -> results.add("skipped " + value));
+
+            event.executeAsync(1).get();
+            assertEquals(2, results.size());
+            assertEquals("first 1", results.get(0));
+            assertEquals("second 1", results.get(1));
+            assertEquals(1, exceptions.size());
+            assertEquals("failed 1", exceptions.get(0).getMessage());
+
+            // Actions added via convenience methods rethrow, which completes the future exceptionally
+            event.actions.add(0, new Action<>(event, (action, value) -> {
+                throw new Exception("rethrown");
+            }, ex -> {
+                throw new RuntimeException(ex);
+            }, false, null));
+            CompletableFuture<Void> future = event.executeAsync(2);
+            assertThrows(CompletionException.class, future::join);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecuteParallelTest {
+    @Test
+    void executeParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Event<Integer> event = new Event<>();
+            event.parallelPool = pool;
+            event.parallelThreshold = 2;
+            AtomicInteger count = new AtomicInteger();
+            List<String> order = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                event.addAction(value -> {
+                    Thread.sleep(100);
+                    count.incrementAndGet();
+                });
+            }
+            Action<Integer> first = event.addAction(value -> {
+                Thread.sleep(200);
+                order.add("first");
+            });
+            Action<Integer> second = event.addAction(value -> order.add("second"));
+            second.runAfter(first);
+            event.addAction(value -> {
+                assertEquals(9, count.incrementAndGet()); // Barrier, everything before finished
+            }).skipNextActions();
+            event.addAction(value -> order.add("skipped"));
+
+            long start = System.currentTimeMillis();
+            event.executeParallel(1);
+            long duration = System.currentTimeMillis() - start;
+            assertEquals(9, count.get());
+            assertEquals(2, order.size());
+            assertEquals("first", order.get(0));
+            assertEquals("second", order.get(1));
+            assertTrue(duration < 8 * 100, "Took " + duration + "ms");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void cycle() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Event<Integer> event = new Event<>();
+            event.parallelPool = pool;
+            event.parallelThreshold = 0;
+            AtomicInteger executions = new AtomicInteger();
+            event.addAction(value -> executions.incrementAndGet()); // Not part of the cycle
+            Action<Integer> a = event.addAction(value -> executions.incrementAndGet());
+            Action<Integer> b = event.addAction(value -> executions.incrementAndGet());
+            a.runAfter(b);
+            b.runAfter(a);
+            assertThrows(IllegalStateException.class, () -> event.executeParallel(1));
+            assertEquals(0, executions.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedEventTest {
+    @Test
+    void routesByKey() {
+        KeyedEvent<Integer, int[]> event = new KeyedEvent<>(value -> value[0]);
+        List<String> calls = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int key = i;
+            event.addKeyedAction(key, value -> calls.add("key" + key + "=" + value[1]));
+        }
+        event.addAction(value -> calls.add("any=" + value[1]));
+        event.addOneTimeKeyedAction(5, value -> calls.add("once=" + value[1]));
+
+        event.execute(new int[]{5, 1});
+        event.execute(new int[]{5, 2});
+        event.execute(new int[]{2000, 3});
+        assertEquals(Arrays.asList("key5=1", "once=1", "any=1", "key5=2", "any=2", "any=3"), calls);
+        assertEquals(1000, event.actionsByKey.size());
+        assertEquals(1001, event.actionCount());
+
+        calls.clear();
+        event.actionsByKey.get(7).get(0).remove();
+        event.execute(new int[]{7, 4});
+        assertEquals(Arrays.asList("any=4"), calls);
+        assertNull(event.actionsByKey.get(7));
+
+        event.removeIf(action -> action instanceof KeyedAction && (Integer) ((KeyedAction<?, ?>) action).key >= 10);
+        assertEquals(9, event.actionsByKey.size());
+        assertEquals(10, event.actionCount());
+    }
+
+    @Test
+    void skipNextActions() {
+        KeyedEvent<String, String> event = new KeyedEvent<>(value -> value.substring(0, 1));
+        List<String> calls = new ArrayList<>();
+        event.addAction(calls::add);
+        event.addKeyedAction("a", value -> calls.add("skip")).skipNextActions();
+        event.execute("abc");
+        event.execute("bcd");
+        assertEquals(Arrays.asList("skip", "bcd"), calls);
+    }
+
+    @Test
+    void executeParallelRecordsLikeExecute() {
+        KeyedEvent<String, String> event = new KeyedEvent<>(value -> value.substring(0, 1));
+        event.initReplay(4).enableMetrics();
+        List<List<String>> replayed = new ArrayList<>();
+        event.addKeyedAction("a", value -> replayed.add(event.replay.get())).skipNextActions();
+        event.addAction(value -> replayed.add(event.replay.get()));
+        event.executeParallel("abc"); // Skips the wildcard actions
+        event.executeParallel("bcd");
+        assertEquals(Arrays.asList(Arrays.asList("abc"), Arrays.asList("abc", "bcd")), replayed); // Recorded before executing
+        assertEquals(2, event.getMetricsSnapshot().executeCount);
+    }
+}
@@ -0,0 +1,79 @@
+package com.osiris.events;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+
+/**
+ * Loads the classes of this library like the multi-release jar does, thus the classes compiled from src/main/javaXX
+ * replace the base ones, if the provided version is XX or higher. <br>
+ * Needed since the tests run against the classes directory, where the classes in META-INF/versions are ignored. <br>
+ * Loads all classes of the com.osiris.events package itself, including the test classes, so that they can access each other.
+ * Everything else is loaded by the parent.
+ */
+class MultiReleaseClassLoader extends ClassLoader {
+    private static final String PACKAGE = "com.osiris.events.";
+    private final File classesDirectory;
+    private final int version;
+
+    MultiReleaseClassLoader(int version) {
+        super(MultiReleaseClassLoader.class.getClassLoader());
+        try {
+            this.classesDirectory = new File(Event.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+        this.version = version;
+    }
+
+    /**
+     * Creates an instance of the provided class via this loader, which is most likely a test class that runs a scenario.
+     */
+    Runnable newRunnable(Class<? extends Runnable> type) throws ReflectiveOperationException {
+        return (Runnable) loadClass(type.getName()).getDeclaredConstructor().newInstance();
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(PACKAGE) || name.equals(MultiReleaseClassLoader.class.getName()))
+            return super.loadClass(name, resolve);
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> type = findLoadedClass(name);
+            if (type == null) {
+                byte[] bytes;
+                try {
+                    bytes = read(name.replace('.', '/') + ".class");
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+                if (bytes == null) throw new ClassNotFoundException(name);
+                type = defineClass(name, bytes, 0, bytes.length);
+            }
+            if (resolve) resolveClass(type);
+            return type;
+        }
+    }
+
+    /**
+     * Returns the bytes of the highest versioned class file that is not above the {@link #version}, or null if there is none.
+     */
+    private byte[] read(String path) throws IOException {
+        for (int v = version; v >= 9; v--) {
+            File file = new File(classesDirectory, "META-INF/versions/" + v + "/" + path);
+            if (file.isFile()) return Files.readAllBytes(file.toPath());
+        }
+        try (InputStream in = getParent().getResourceAsStream(path)) {
+            if (in == null) return null;
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
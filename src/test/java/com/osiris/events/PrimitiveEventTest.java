@@ -0,0 +1,48 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrimitiveEventTest {
+    @Test
+    void intEvent() {
+        IntEvent onValueChanged = new IntEvent();
+        AtomicLong sum = new AtomicLong();
+        AtomicInteger oneTimeCount = new AtomicInteger();
+        onValueChanged.addIntAction(sum::addAndGet);
+        onValueChanged.addOneTimeIntAction(value -> oneTimeCount.incrementAndGet());
+        onValueChanged.addAction(value -> sum.addAndGet(value)); // Boxed
+        onValueChanged.execute(1).execute(2);
+        onValueChanged.execute(Integer.valueOf(3));
+        assertEquals(12, sum.get());
+        assertEquals(1, oneTimeCount.get());
+        assertEquals(2, onValueChanged.actions.size());
+    }
+
+    @Test
+    void longAndDoubleEvent() {
+        LongEvent longEvent = new LongEvent();
+        DoubleEvent doubleEvent = new DoubleEvent();
+        AtomicLong sum = new AtomicLong();
+        longEvent.addLongAction(sum::addAndGet);
+        doubleEvent.addDoubleAction(value -> sum.addAndGet((long) (value * 10)));
+        longEvent.execute(5L);
+        doubleEvent.execute(0.5);
+        assertEquals(10, sum.get());
+    }
+
+    @Test
+    void signal() {
+        Signal onReload = new Signal();
+        AtomicInteger count = new AtomicInteger();
+        onReload.addAction(count::incrementAndGet);
+        onReload.addOneTimeAction(count::incrementAndGet);
+        onReload.execute().execute();
+        assertEquals(3, count.get());
+        assertEquals(1, onReload.actions.size());
+    }
+}
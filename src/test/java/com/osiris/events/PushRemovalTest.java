@@ -0,0 +1,51 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PushRemovalTest {
+    @Test
+    void conditionsAreOnlyCheckedOnChange() {
+        AtomicInteger checks = new AtomicInteger();
+        Event<Integer> event = new Event<Integer>().usePushRemoval();
+        event.defaultActionRemoveCondition = obj -> {
+            checks.incrementAndGet();
+            return "remove".equals(obj);
+        };
+        AtomicInteger sum = new AtomicInteger();
+        Action<Integer> action = event.addAction(sum::addAndGet);
+        event.addOneTimeAction(value -> sum.addAndGet(100));
+        for (int i = 0; i < 10; i++) {
+            event.execute(1);
+        }
+        assertEquals(1, checks.get()); // Once when added, the one time action does not use the default condition
+        assertEquals(110, sum.get());
+        assertEquals(1, event.actions.size());
+
+        action.setObject("keep");
+        event.execute(1);
+        assertEquals(2, checks.get());
+        assertEquals(111, sum.get());
+
+        action.setObject("remove");
+        event.execute(1);
+        assertEquals(3, checks.get());
+        assertEquals(111, sum.get());
+        assertEquals(0, event.actions.size());
+    }
+
+    @Test
+    void conditionIsCheckedWhenAdded() {
+        Event<Integer> event = new Event<Integer>().usePushRemoval();
+        event.defaultActionRemoveCondition = "remove"::equals;
+        AtomicInteger sum = new AtomicInteger();
+        event.addAction((action, value) -> sum.addAndGet(value), Exception::printStackTrace, false, "remove");
+        event.addAction((action, value) -> sum.addAndGet(10 * value), Exception::printStackTrace, false, "keep");
+        event.execute(1);
+        assertEquals(10, sum.get());
+        assertEquals(1, event.actions.size());
+    }
+}
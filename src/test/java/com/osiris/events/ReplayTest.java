@@ -0,0 +1,127 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+    @Test
+    void sticky() {
+        Event<String> event = new Event<String>().initSticky();
+        event.execute("first");
+        event.execute("second");
+        List<String> values = new ArrayList<>();
+        event.addAction(values::add);
+        assertEquals(Arrays.asList("second"), values);
+        event.execute("third");
+        assertEquals(Arrays.asList("second", "third"), values);
+    }
+
+    @Test
+    void replayLastN() {
+        IntEvent event = new IntEvent();
+        event.initReplay(3);
+        for (int i = 0; i < 10; i++) {
+            event.execute(i);
+        }
+        List<Integer> values = new ArrayList<>();
+        event.addIntAction(values::add);
+        assertEquals(Arrays.asList(7, 8, 9), values);
+
+        AtomicInteger count = new AtomicInteger();
+        event.addOneTimeAction(value -> count.incrementAndGet());
+        assertEquals(1, count.get());
+        event.execute(10);
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void keyed() {
+        KeyedEvent<Integer, Integer> event = new KeyedEvent<>(value -> value % 2);
+        event.initReplay(4);
+        event.executeAll(Arrays.asList(1, 2, 3, 4));
+        List<Integer> odd = new ArrayList<>();
+        event.addKeyedAction(1, odd::add);
+        assertEquals(Arrays.asList(1, 3), odd);
+    }
+
+    @Test
+    void cache() {
+        ReplayCache<Integer> cache = new ReplayCache<>(2);
+        assertTrue(cache.get().isEmpty());
+        cache.record(1);
+        assertEquals(Arrays.asList(1), cache.get());
+        cache.record(2);
+        cache.record(3);
+        assertEquals(Arrays.asList(2, 3), cache.get());
+        cache.clear();
+        assertTrue(cache.get().isEmpty());
+    }
+
+    @Test
+    void concurrentSticky() throws InterruptedException {
+        ReplayCache<Long> cache = new ReplayCache<>(1);
+        int threadCount = 4, recordsPerThread = 100_000;
+        long threadOffset = 1_000_000_000L;
+        Thread[] writers = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            long offset = i * threadOffset;
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < recordsPerThread; j++) {
+                    cache.record(offset + j);
+                }
+            });
+        }
+        cache.record(-1L);
+        for (Thread writer : writers) writer.start();
+        long[] lastSeen = new long[threadCount];
+        Arrays.fill(lastSeen, -1);
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (Thread writer : writers) running |= writer.isAlive();
+            List<Long> values = cache.get();
+            assertTrue(values.size() <= 1);
+            if (values.isEmpty()) continue; // Skipped, since it was being written
+            long value = values.get(0);
+            if (value < 0) continue;
+            int thread = (int) (value / threadOffset);
+            assertTrue(value % threadOffset >= lastSeen[thread], "Went back to an older value");
+            lastSeen[thread] = value % threadOffset;
+        }
+        // Writers give up under contention, thus only a value recorded afterwards is guaranteed to be kept
+        cache.record(-2L);
+        assertEquals(Arrays.asList(-2L), cache.get());
+    }
+
+    @Test
+    void stalledWriterDoesNotBlock() throws Exception {
+        ReplayCache<Integer> cache = new ReplayCache<>(2);
+        cache.record(0);
+        cache.record(1);
+        // Simulates a writer that claimed sequence 2 (slot 0) and was descheduled before publishing
+        Field cursor = ReplayCache.class.getDeclaredField("cursor");
+        Field sequences = ReplayCache.class.getDeclaredField("sequences");
+        cursor.setAccessible(true);
+        sequences.setAccessible(true);
+        ((AtomicLong) cursor.get(cache)).set(3);
+        ((AtomicLongArray) sequences.get(cache)).set(0, 2 * 2 + 1);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertEquals(Arrays.asList(1), cache.get()); // Skips the slot being written
+            cache.record(3);
+            cache.record(4); // Same slot as the stalled writer, gets dropped
+            assertEquals(Arrays.asList(3), cache.get());
+            cache.clear();
+            assertTrue(cache.get().isEmpty());
+        });
+    }
+}
@@ -2,6 +2,13 @@ package com.osiris.events;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 
 class SuperLoopTest {
     @Test
@@ -10,5 +17,94 @@ class SuperLoopTest {
         superLoop.add(5, () -> {
             // Executed every 5 seconds
         });
+        superLoop.stop();
+    }
+
+    /**
+     * Waits until the provided list has at least the provided amount of entries.
+     */
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10_000;
+        while (list.size() < size) {
+            assertTrue(System.currentTimeMillis() < end, "Only " + list.size() + " of " + size + " runs");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void noDrift() throws InterruptedException {
+        SuperLoop superLoop = new SuperLoop(20);
+        try {
+            List<Long> lateness = new CopyOnWriteArrayList<>();
+            superLoop.add(1, () -> {
+                lateness.add(superLoop.getLastTickLatenessNanos());
+                try {
+                    Thread.sleep(10); // Would delay each tick by 10ms without fixed rate, thus 100ms after 10 ticks
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            awaitSize(lateness, 20);
+            long min = Long.MAX_VALUE;
+            for (long l : lateness.subList(10, 20)) min = Math.min(min, l);
+            assertTrue(min < 50_000_000L, "Lateness: " + lateness);
+        } finally {
+            superLoop.stop();
+        }
+    }
+
+    @Test
+    void overrun() throws InterruptedException {
+        for (SuperLoop.OverrunPolicy policy : SuperLoop.OverrunPolicy.values()) {
+            SuperLoop superLoop = new SuperLoop(10, policy);
+            try {
+                // Never due, only counts down by the ticks passed over to each tick
+                int longInterval = 1_000_000;
+                superLoop.add(longInterval, () -> {
+                });
+                AtomicInteger count = new AtomicInteger();
+                List<Long> lateness = new CopyOnWriteArrayList<>();
+                superLoop.add(1, () -> {
+                    lateness.add(superLoop.getLastTickLatenessNanos());
+                    try {
+                        if (count.incrementAndGet() == 1) Thread.sleep(105); // Misses 10 ticks
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                awaitSize(lateness, 3);
+                // The tick after the slow one is late by at least 95ms for all policies
+                assertTrue(lateness.get(1) >= 90_000_000L, policy + " " + lateness);
+                assertTrue(superLoop.getMaxTickLatenessNanos() >= 90_000_000L, policy + " " + superLoop.getMaxTickLatenessNanos());
+                // BURST only moves the deadline by one interval, thus the next tick is still late,
+                // the others move the deadline past the missed ticks
+                if (policy == SuperLoop.OverrunPolicy.BURST)
+                    assertTrue(lateness.get(2) >= 80_000_000L, policy + " " + lateness);
+                else
+                    assertTrue(lateness.get(2) < 80_000_000L, policy + " " + lateness);
+
+                superLoop.stop();
+                superLoop.thread.join();
+                long countedTicks = longInterval - superLoop.list.get(0).intervalLeft;
+                long missed = superLoop.getMissedTickCount();
+                String message = policy + " ticks: " + superLoop.getTickCount() + " counted: " + countedTicks + " missed: " + missed;
+                switch (policy) {
+                    case SKIP: // Missed ticks are dropped, each tick counts as one
+                        assertTrue(missed >= 9, message);
+                        assertEquals(superLoop.getTickCount(), countedTicks, message);
+                        break;
+                    case COALESCE: // Missed ticks are passed over to the next tick
+                        assertTrue(missed >= 9, message);
+                        assertEquals(superLoop.getTickCount() + missed, countedTicks, message);
+                        break;
+                    case BURST: // Missed ticks are run on their own
+                        assertEquals(0, missed, message);
+                        assertEquals(superLoop.getTickCount(), countedTicks, message);
+                        break;
+                }
+            } finally {
+                superLoop.stop();
+            }
+        }
     }
-}
\ No newline at end of file
+}
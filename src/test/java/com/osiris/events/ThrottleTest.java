@@ -0,0 +1,55 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThrottleTest {
+    @Test
+    void burstAndRefill() throws InterruptedException {
+        Event<Integer> event = new Event<>();
+        AtomicInteger executed = new AtomicInteger();
+        List<Integer> throttled = new CopyOnWriteArrayList<>();
+        Action<Integer> action = event.addAction(value -> executed.incrementAndGet())
+                .throttle(10, 1, TimeUnit.SECONDS, 5)
+                .onThrottled((a, value) -> throttled.add(value));
+        for (int i = 0; i < 8; i++) {
+            event.execute(i);
+        }
+        assertEquals(5, executed.get());
+        assertEquals(3, throttled.size());
+        assertEquals(5, throttled.get(0));
+        assertEquals(3, action.throttle.throttledCount.get());
+
+        Thread.sleep(250); // 100ms per permit
+        event.execute(8);
+        assertEquals(6, executed.get());
+    }
+
+    @Test
+    void primitive() {
+        IntEvent event = new IntEvent();
+        AtomicInteger executed = new AtomicInteger();
+        event.addIntAction(value -> executed.incrementAndGet()).throttle(1, 1, TimeUnit.MINUTES);
+        for (int i = 0; i < 100; i++) {
+            event.execute(i);
+        }
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    void throttledDoesNotSkip() {
+        Event<Integer> event = new Event<>();
+        AtomicInteger executed = new AtomicInteger();
+        event.addAction(value -> {}).skipNextActions().throttle(1, 1, TimeUnit.MINUTES);
+        event.addAction(value -> executed.incrementAndGet());
+        event.execute(0);
+        event.execute(1);
+        assertEquals(1, executed.get());
+    }
+}
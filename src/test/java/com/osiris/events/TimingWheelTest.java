@@ -0,0 +1,50 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+    @Test
+    void schedule() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel("TimingWheelTest");
+        List<Long> delays = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+        long[] requestedDelays = {300, 5, 4100, 70, 0, 1000};
+        for (long delay : requestedDelays) {
+            wheel.schedule(() -> {
+                long actual = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                assertTrue(actual >= delay, actual + " < " + delay);
+                delays.add(delay);
+            }, delay);
+        }
+        TimingWheel.Timeout cancelled = wheel.schedule(() -> delays.add(-1L), 50);
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+
+        Thread.sleep(4500);
+        assertEquals(6, delays.size());
+        for (int i = 1; i < delays.size(); i++) {
+            assertTrue(delays.get(i - 1) < delays.get(i)); // In order
+        }
+        assertEquals(0, wheel.size());
+        wheel.thread.interrupt();
+    }
+
+    @Test
+    void millisecondCleaner() throws InterruptedException {
+        Event<Void> event = new Event<Void>().initSimpleCleaner(50, TimeUnit.MILLISECONDS);
+        Action<Void> action = event.addAction(value -> {
+        });
+        event.addAction(value -> {
+        });
+        action.remove();
+        Thread.sleep(300);
+        assertEquals(1, event.actions.size());
+        assertEquals(50, event.millisBetweenChecks);
+    }
+}
@@ -0,0 +1,33 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeakActionTest {
+    @Test
+    void removedOnceOwnerIsCollected() throws InterruptedException {
+        Event<Integer> event = new Event<>();
+        AtomicInteger sum = new AtomicInteger();
+        event.addAction(sum::addAndGet);
+        Object owner = new Object();
+        WeakAction<Object, Integer> action = event.addWeakAction(owner, (o, value) -> sum.addAndGet(value * 10));
+        event.execute(1);
+        assertEquals(11, sum.get());
+        assertEquals(owner, action.getOwner());
+
+        owner = null;
+        for (int i = 0; i < 50 && event.actions.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(20);
+            event.execute(0);
+        }
+        assertEquals(1, event.actions.size());
+        assertTrue(action.getOwner() == null);
+        event.execute(1);
+        assertEquals(12, sum.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.osiris.events;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Only compiled and run by the java11 profile, against the Java 11 version of {@link FlightRecorder}.
+ */
+class FlightRecorderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void emitsEvents() throws Exception {
+        Runnable scenario = new MultiReleaseClassLoader(Runtime.version().feature()).newRunnable(Scenario.class);
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.osiris.events.Execute");
+            recording.enable("com.osiris.events.SlowAction");
+            recording.enable("com.osiris.events.Cleaner");
+            recording.enable("com.osiris.events.SuperLoopTick");
+            recording.start();
+            scenario.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            counts.merge(event.getEventType().getName(), 1, Integer::sum);
+        }
+        assertTrue(counts.getOrDefault("com.osiris.events.Execute", 0) >= 1, counts.toString());
+        assertEquals(2, counts.getOrDefault("com.osiris.events.SlowAction", 0), counts.toString()); // Also for the failing one
+        assertTrue(counts.getOrDefault("com.osiris.events.Cleaner", 0) >= 1, counts.toString());
+        assertTrue(counts.getOrDefault("com.osiris.events.SuperLoopTick", 0) >= 1, counts.toString());
+    }
+
+    /**
+     * Gets loaded via the {@link MultiReleaseClassLoader}, thus uses the Java 11 version of {@link FlightRecorder}.
+     */
+    public static class Scenario implements Runnable {
+        @Override
+        public void run() {
+            try {
+                Event<Integer> event = new Event<Integer>().initCleaner(10, TimeUnit.MILLISECONDS, obj -> false, Exception::printStackTrace);
+                event.addAction(value -> Thread.sleep(20));
+                event.addAction((action, value) -> {
+                    Thread.sleep(20);
+                    throw new Exception("Expected");
+                }, e -> {
+                });
+                event.execute(1);
+                Thread.sleep(100); // Cleaner runs
+
+                SuperLoop loop = new SuperLoop(10);
+                try {
+                    loop.add(1, () -> {
+                    });
+                    Thread.sleep(100);
+                } finally {
+                    loop.stop();
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
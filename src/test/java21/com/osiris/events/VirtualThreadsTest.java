@@ -0,0 +1,53 @@
+package com.osiris.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Only compiled and run by the java21 profile, against the Java 21 version of {@link VirtualThreads}.
+ */
+class VirtualThreadsTest {
+    @Test
+    void baseVersionIsNotSupported() {
+        assertFalse(VirtualThreads.isSupported()); // Loaded from the classes directory, not META-INF/versions/21
+    }
+
+    @Test
+    void executesInVirtualThreads() throws Exception {
+        new MultiReleaseClassLoader(Runtime.version().feature()).newRunnable(Scenario.class).run();
+    }
+
+    /**
+     * Gets loaded via the {@link MultiReleaseClassLoader}, thus uses the Java 21 version of {@link VirtualThreads}.
+     */
+    public static class Scenario implements Runnable {
+        @Override
+        public void run() {
+            try {
+                assertTrue(VirtualThreads.isSupported());
+
+                Event<Integer> event = new Event<Integer>().useVirtualThreads();
+                CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+                event.addAction(value -> isVirtual.complete(Thread.currentThread().isVirtual()));
+                event.executeAsync(1).get(10, TimeUnit.SECONDS);
+                assertTrue(isVirtual.get(10, TimeUnit.SECONDS), "Event action");
+
+                SuperLoop loop = new SuperLoop(10).useVirtualThreads();
+                try {
+                    CompletableFuture<Boolean> isLoopVirtual = new CompletableFuture<>();
+                    loop.add(1, () -> isLoopVirtual.complete(Thread.currentThread().isVirtual()));
+                    assertTrue(isLoopVirtual.get(10, TimeUnit.SECONDS), "SuperLoop runnable");
+                } finally {
+                    loop.stop();
+                }
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}